@@ -1,7 +1,22 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import config.ConfigReloader;
+import config.RestaurantConfig;
 import core.DeliveryCenter;
 import core.Kitchen;
 import core.OrderGenerator;
 import core.QueueManager;
+import engine.TimerWheelEngine;
+import event.OrderEventBus;
+import inventory.Inventory;
+import inventory.RestockProducer;
+import ipc.MappedOrderRing;
+import ipc.RingForwarder;
+import ledger.SalesLedger;
+import net.OrderIngestServer;
+import registry.OrderRegistry;
 import view.Dashboard;
 
 public class Main {
@@ -10,6 +25,15 @@ public class Main {
 	        // 1. 기본값 설정
 	        int chefCount = 3;
 	        int riderCount = 2;
+	        String engineType = "thread"; // thread: 요리사/배달원당 스레드, wheel: 타이머 휠 이벤트 엔진
+	        int engineThreads = 2;
+	        String view = "auto"; // full: 요리사/배달원 전체 표시, summary: 인원 수와 무관한 요약 화면
+	        int ingestPort = 0; // 0이면 외부 주문 접수 서버 미사용
+	        String scheduling = "fcfs"; // fcfs: 메뉴 단위 선착순, gang: 한 주문의 메뉴들을 여러 요리사가 동시 조리
+	        String deploy = "local"; // local: 한 JVM, split: 배달원은 별도 JVM(ipc.DeliveryProcess)에서 실행
+	        String ringPath = "delivery.ring"; // split 모드에서 배달 프로세스와 공유하는 링 파일
+	        int ringSlots = 1024;
+	        String configPath = "restaurant.properties"; // 실행 중 수정 시 자동 반영되는 외부 설정 파일
 
 	        // 2. chef와 rider 수를 인자로 받기
 	        for (int i = 0; i < args.length; i++) {
@@ -20,6 +44,33 @@ public class Main {
 	                } else if ("--riderCount".equals(args[i]) && i + 1 < args.length) {
 	                    riderCount = Integer.parseInt(args[i + 1]);
 	                    i++;
+	                } else if ("--engine".equals(args[i]) && i + 1 < args.length) {
+	                    engineType = args[i + 1];
+	                    i++;
+	                } else if ("--engineThreads".equals(args[i]) && i + 1 < args.length) {
+	                    engineThreads = Integer.parseInt(args[i + 1]);
+	                    i++;
+	                } else if ("--ingestPort".equals(args[i]) && i + 1 < args.length) {
+	                    ingestPort = Integer.parseInt(args[i + 1]);
+	                    i++;
+	                } else if ("--view".equals(args[i]) && i + 1 < args.length) {
+	                    view = args[i + 1];
+	                    i++;
+	                } else if ("--scheduling".equals(args[i]) && i + 1 < args.length) {
+	                    scheduling = args[i + 1];
+	                    i++;
+	                } else if ("--deploy".equals(args[i]) && i + 1 < args.length) {
+	                    deploy = args[i + 1];
+	                    i++;
+	                } else if ("--ring".equals(args[i]) && i + 1 < args.length) {
+	                    ringPath = args[i + 1];
+	                    i++;
+	                } else if ("--ringSlots".equals(args[i]) && i + 1 < args.length) {
+	                    ringSlots = Integer.parseInt(args[i + 1]);
+	                    i++;
+	                } else if ("--config".equals(args[i]) && i + 1 < args.length) {
+	                    configPath = args[i + 1];
+	                    i++;
 	                }
 	            } catch (NumberFormatException e) {
 	                System.err.println("인자 값이 숫자가 아닙니다. 기본값을 유지합니다.");
@@ -28,29 +79,86 @@ public class Main {
 
 	        System.out.println("설정된 요리사 수: " + chefCount);
 	        System.out.println("설정된 배달원 수: " + riderCount);
+	        System.out.println("실행 엔진: " + engineType);
+	        System.out.println("조리 스케줄링: " + scheduling);
+	        System.out.println("배포 방식: " + deploy);
+	        boolean split = "split".equals(deploy);
 
 	        // 3. 시스템 초기화 및 의존성 주입
-	        // 큐 사이즈 고정
-	        int menuQueueSize = 10;
-	        int deliveryQueueSize = 5; 
-	        
+	        // 설정 로드 (클래스패스 기본값 + 외부 설정 파일)
+	        Path configFile = Paths.get(configPath);
+	        RestaurantConfig config = RestaurantConfig.load(configFile);
+
 	        // 큐 생성
-	        QueueManager queueManager = new QueueManager(menuQueueSize, deliveryQueueSize);
+	        QueueManager queueManager = new QueueManager(config.getMenuQueueSize(), config.getDeliveryQueueSize());
 	        
+	        // 재료 재고 (요리사가 조리 시작 시 차감, 공급 스레드가 주기적으로 입고)
+	        Inventory inventory = new Inventory(config);
+
+	        // 매출 장부 (배달 완료 시 배달원이 기록, 장부 스레드가 분/시간 버킷에 반영)
+	        SalesLedger ledger = new SalesLedger();
+
+	        // 주문 생애주기 이벤트 스트림 (접수 → 조리 → 배달, 대시보드가 구독)
+	        OrderEventBus eventBus = new OrderEventBus();
+
+	        // 주문 번호로 진행 상황을 조회하는 등록부 (이벤트를 유실 없이 받도록 동기 리스너로 등록)
+	        // split 모드에서는 배달 완료 이벤트가 이 프로세스에 오지 않아 주문이 정리되지 않으므로 사용하지 않음
+	        OrderRegistry registry = null;
+	        if (!split) {
+	            registry = new OrderRegistry(config);
+	            eventBus.addListener(registry);
+	        }
+
 	        // core 객체 생성
-	        Kitchen kitchen = new Kitchen(chefCount, queueManager);
-	        DeliveryCenter deliveryCenter = new DeliveryCenter(riderCount, queueManager);
-	        OrderGenerator orderGenerator = new OrderGenerator(queueManager);
+	        Kitchen kitchen = new Kitchen(chefCount, queueManager, config, "gang".equals(scheduling), inventory, eventBus);
+	        // split 모드에서는 배달원이 별도 JVM에서 일하므로 이 프로세스의 배달원은 0명 (배달 이벤트도 발행되지 않음)
+	        DeliveryCenter deliveryCenter = split
+	                ? new DeliveryCenter(0, queueManager, config)
+	                : new DeliveryCenter(riderCount, queueManager, config, ledger, eventBus);
+	        OrderGenerator orderGenerator = new OrderGenerator(queueManager, config, inventory, eventBus);
 	        
 	        // 콘솔 프린트를 위한 Dashboard 생성
-	        Dashboard dashboard = new Dashboard(kitchen, deliveryCenter, queueManager, orderGenerator);
+	        // 인원이 많으면 요약 화면 사용 (auto)
+	        boolean summaryView = "summary".equals(view)
+	                || ("auto".equals(view) && (chefCount > 20 || riderCount > 20));
+	        Dashboard dashboard = new Dashboard(kitchen, deliveryCenter, queueManager, eventBus, summaryView);
+
+	        // split 모드: 완성 주문을 메모리 매핑 링으로 배달 프로세스에 넘김
+	        MappedOrderRing ring = null;
+	        if (split) {
+	            try {
+	                ring = MappedOrderRing.create(Paths.get(ringPath), ringSlots);
+	            } catch (IOException e) {
+	                System.err.println("링 파일 생성 실패: " + ringPath + " (" + e.getMessage() + ")");
+	                return;
+	            }
+	            System.out.println("배달 프로세스 실행: java ipc.DeliveryProcess --riderCount " + riderCount + " --ring " + ringPath);
+	        }
 
 	        // 4. 스레드 가동
-	        kitchen.startOperations();
-	        deliveryCenter.startOperations();
+	        if ("wheel".equals(engineType)) {
+	            // 소수의 스레드가 타이머 이벤트로 모든 요리사/배달원을 구동
+	            TimerWheelEngine engine = new TimerWheelEngine(engineThreads, 10);
+	            engine.start();
+	            kitchen.startOperations(engine);
+	            deliveryCenter.startOperations(engine);
+	        } else {
+	            kitchen.startOperations();
+	            deliveryCenter.startOperations();
+	        }
 	        
+	        new Thread(new RestockProducer(inventory, config), "RestockProducer").start();
+	        if (split) {
+	            new Thread(new RingForwarder(queueManager.getDeliveryQueue(), ring), "RingForwarder").start();
+	        } else {
+	            new Thread(ledger, "SalesLedger").start();
+	        }
 	        new Thread(orderGenerator, "OrderGenerator").start();
 	        new Thread(dashboard, "Dashboard").start();
+	        if (ingestPort > 0) {
+	            new Thread(new OrderIngestServer(ingestPort, queueManager, eventBus, registry), "OrderIngestServer").start();
+	        }
+	        new Thread(new ConfigReloader(configFile, config, queueManager), "ConfigReloader").start();
 	    
 	}
 }
@@ -0,0 +1,344 @@
+package analysis;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import model.MenuItem;
+
+/**
+ * restaurant.log 오프라인 분석기
+ *
+ * 로그 파일을 줄 단위로 정렬된 구간(chunk)으로 나누고, 각 구간을 메모리 매핑하여
+ * Fork/Join 풀에서 병렬로 파싱합니다. 파일 내용은 힙에 적재하지 않고 매핑된 버퍼에서 바로 읽습니다.
+ *
+ * 실행: java analysis.LogAnalyzer [--chunkMb 64] [--orders] restaurant.log
+ */
+public class LogAnalyzer {
+
+	// 구간 하나는 MappedByteBuffer 하나(최대 Integer.MAX_VALUE 바이트)로 매핑되며, 구간 끝은 다음 줄바꿈까지 늘어나므로 1MB 여유를 둠
+	static final long MAX_CHUNK_MB = 2047;
+	static final long MAX_CHUNK_BYTES = MAX_CHUNK_MB * 1024 * 1024;
+
+	private static final int TIMESTAMP_LEN = 23; // yyyy-MM-dd'T'HH:mm:ss.SSS
+	private static final byte[] MESSAGE_SEP = " - ".getBytes(StandardCharsets.UTF_8);
+
+	private static final String ORDER_CREATED = "신규 주문 접수: #";
+	private static final String CHEF_PREFIX = "[요리사#";
+	private static final String URGENT_PREFIX = "[긴급 조리] 큐 포화로 인한 우선 처리: ";
+	private static final String PICKUP_MARK = "번 배달 출발 주문#";
+	private static final String DELIVERED_MARK = "번 배달 완료! 주문#";
+
+	private static final Map<String, MenuItem> MENU_BY_NAME = new HashMap<>();
+	static {
+		for (MenuItem menu : MenuItem.values()) {
+			MENU_BY_NAME.put(menu.getName(), menu);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		long chunkMb = 64;
+		boolean perOrder = false;
+		String file = "restaurant.log";
+
+		for (int i = 0; i < args.length; i++) {
+			if ("--chunkMb".equals(args[i]) && i + 1 < args.length) {
+				chunkMb = Long.parseLong(args[++i]);
+				if (chunkMb < 1 || chunkMb > MAX_CHUNK_MB) {
+					long clamped = Math.max(1, Math.min(chunkMb, MAX_CHUNK_MB));
+					System.err.printf("--chunkMb는 1~%d 범위여야 합니다: %d → %d로 조정%n", MAX_CHUNK_MB, chunkMb, clamped);
+					chunkMb = clamped;
+				}
+			} else if ("--orders".equals(args[i])) {
+				perOrder = true;
+			} else {
+				file = args[i];
+			}
+		}
+
+		long started = System.nanoTime();
+		LogStats stats = analyze(Paths.get(file), chunkMb * 1024 * 1024, ForkJoinPool.commonPool());
+		stats.report(System.out, perOrder);
+		System.out.printf("%n분석 소요: %,dms%n", (System.nanoTime() - started) / 1_000_000);
+	}
+
+	/**
+	 * 로그 파일을 구간별로 병렬 분석합니다.
+	 *
+	 * @param chunkBytes 구간 크기 (1 ~ {@link #MAX_CHUNK_BYTES} 범위로 조정)
+	 */
+	public static LogStats analyze(Path file, long chunkBytes, ForkJoinPool pool) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long[] bounds = splitAtLines(channel, Math.max(1, Math.min(chunkBytes, MAX_CHUNK_BYTES)));
+			return pool.invoke(new ChunkTask(channel, bounds, 0, bounds.length - 1));
+		}
+	}
+
+	// 파일을 chunkBytes 근처의 줄바꿈 위치에서 나눈 경계 오프셋 목록 (첫 값 0, 마지막 값 파일 크기)
+	static long[] splitAtLines(FileChannel channel, long chunkBytes) throws IOException {
+		long size = channel.size();
+		List<Long> bounds = new ArrayList<>();
+		bounds.add(0L);
+
+		ByteBuffer probe = ByteBuffer.allocate(4096);
+		long pos = chunkBytes;
+		while (pos < size) {
+			long lineEnd = -1;
+			long scan = pos;
+			while (lineEnd < 0 && scan < size) {
+				probe.clear();
+				int read = channel.read(probe, scan);
+				if (read <= 0) {
+					break;
+				}
+				for (int i = 0; i < read; i++) {
+					if (probe.get(i) == '\n') {
+						lineEnd = scan + i + 1;
+						break;
+					}
+				}
+				scan += read;
+			}
+			if (lineEnd < 0 || lineEnd >= size) {
+				break;
+			}
+			bounds.add(lineEnd);
+			pos = lineEnd + chunkBytes;
+		}
+		bounds.add(size);
+		return bounds.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	/**
+	 * 구간 [from, to)를 분할 정복으로 파싱하고, 파일 순서대로 결과를 병합합니다.
+	 */
+	static final class ChunkTask extends RecursiveTask<LogStats> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient FileChannel channel;
+		private final long[] bounds;
+		private final int from;
+		private final int to;
+
+		ChunkTask(FileChannel channel, long[] bounds, int from, int to) {
+			this.channel = channel;
+			this.bounds = bounds;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected LogStats compute() {
+			if (to - from <= 1) {
+				return parseChunk();
+			}
+			int mid = (from + to) >>> 1;
+			ChunkTask left = new ChunkTask(channel, bounds, from, mid);
+			ChunkTask right = new ChunkTask(channel, bounds, mid, to);
+			right.fork();
+			LogStats leftStats = left.compute();
+			return leftStats.merge(right.join());
+		}
+
+		private LogStats parseChunk() {
+			LogStats stats = new LogStats();
+			long start = bounds[from];
+			long length = bounds[to] - start;
+			if (length <= 0) {
+				return stats;
+			}
+			try {
+				MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+				new LineParser(buf, stats).parseAll();
+			} catch (IOException e) {
+				throw new IllegalStateException("로그 구간 매핑 실패: offset " + start, e);
+			}
+			return stats;
+		}
+	}
+
+	/**
+	 * 매핑된 버퍼에서 한 줄씩 읽어 관심 있는 이벤트만 집계합니다.
+	 * 메시지 부분만 재사용 버퍼로 복사하여 문자열로 변환합니다.
+	 */
+	static final class LineParser {
+		private final ByteBuffer buf;
+		private final LogStats stats;
+		private byte[] scratch = new byte[256];
+
+		// 날짜 부분(yyyy-MM-dd)은 거의 바뀌지 않으므로 마지막 값을 캐시
+		private int cachedDateKey = -1;
+		private long cachedDayMillis;
+
+		LineParser(ByteBuffer buf, LogStats stats) {
+			this.buf = buf;
+			this.stats = stats;
+		}
+
+		void parseAll() {
+			int limit = buf.limit();
+			int lineStart = 0;
+			for (int i = 0; i < limit; i++) {
+				if (buf.get(i) == '\n') {
+					parseLine(lineStart, i);
+					lineStart = i + 1;
+				}
+			}
+			if (lineStart < limit) {
+				parseLine(lineStart, limit);
+			}
+		}
+
+		private void parseLine(int start, int end) {
+			if (end - start < TIMESTAMP_LEN || !isDigit(buf.get(start))) {
+				return; // 스택 트레이스 등 타임스탬프가 없는 줄
+			}
+			long ts = parseTimestamp(start);
+			if (ts < 0) {
+				return;
+			}
+			stats.seen(ts);
+
+			int msgStart = indexOf(MESSAGE_SEP, start + TIMESTAMP_LEN, end);
+			if (msgStart < 0) {
+				return;
+			}
+			msgStart += MESSAGE_SEP.length;
+			int msgEnd = (end > msgStart && buf.get(end - 1) == '\r') ? end - 1 : end;
+			handleMessage(decode(msgStart, msgEnd), ts);
+		}
+
+		private void handleMessage(String msg, long ts) {
+			if (msg.startsWith(ORDER_CREATED)) {
+				// 신규 주문 접수: #101 (메뉴: 커피, 피자)
+				int orderId = leadingInt(msg, ORDER_CREATED.length());
+				stats.orderEvent(orderId, LogStats.CREATED, ts);
+				int open = msg.indexOf("(메뉴: ");
+				int close = msg.lastIndexOf(')');
+				if (open >= 0 && close > open) {
+					for (String name : msg.substring(open + 5, close).split(", ")) {
+						MenuItem menu = MENU_BY_NAME.get(name);
+						if (menu != null) {
+							stats.menuOrdered(menu);
+						}
+					}
+				}
+			} else if (msg.startsWith(CHEF_PREFIX)) {
+				// [요리사#0] 주문#101 커피 조리 시작 / 조리 끝 / 조리 완료 → 배달 큐
+				int chefId = leadingInt(msg, CHEF_PREFIX.length());
+				int orderMark = msg.indexOf("주문#");
+				if (orderMark < 0) {
+					return;
+				}
+				int orderId = leadingInt(msg, orderMark + 3);
+				if (msg.endsWith(" 조리 시작")) {
+					stats.chef(chefId).start(ts);
+				} else if (msg.endsWith(" 조리 끝")) {
+					stats.chef(chefId).end(ts);
+				} else if (msg.endsWith("조리 완료 → 배달 큐")) {
+					stats.orderEvent(orderId, LogStats.READY, ts);
+				}
+			} else if (msg.startsWith(URGENT_PREFIX)) {
+				MenuItem menu = MENU_BY_NAME.get(msg.substring(URGENT_PREFIX.length()).trim());
+				if (menu != null) {
+					stats.urgent(menu);
+				}
+			} else if (msg.startsWith("#")) {
+				// #1번 배달 출발 주문#101 (주소: ...) / #1번 배달 완료! 주문#101
+				int pickup = msg.indexOf(PICKUP_MARK);
+				int delivered = pickup < 0 ? msg.indexOf(DELIVERED_MARK) : -1;
+				if (pickup < 0 && delivered < 0) {
+					return;
+				}
+				int riderId = leadingInt(msg, 1);
+				if (pickup >= 0) {
+					stats.orderEvent(leadingInt(msg, pickup + PICKUP_MARK.length()), LogStats.PICKED_UP, ts);
+					stats.rider(riderId).start(ts);
+				} else {
+					stats.orderEvent(leadingInt(msg, delivered + DELIVERED_MARK.length()), LogStats.DELIVERED, ts);
+					stats.rider(riderId).end(ts);
+				}
+			}
+		}
+
+		// yyyy-MM-dd'T'HH:mm:ss.SSS → 로컬 기준 epoch millis (구간 간 비교용)
+		private long parseTimestamp(int p) {
+			if (buf.get(p + 4) != '-' || buf.get(p + 10) != 'T' || buf.get(p + 19) != '.') {
+				return -1;
+			}
+			int year = digits(p, 4);
+			int month = digits(p + 5, 2);
+			int day = digits(p + 8, 2);
+			int dateKey = (year * 100 + month) * 100 + day;
+			if (dateKey != cachedDateKey) {
+				cachedDayMillis = LocalDate.of(year, month, day).toEpochDay() * 86_400_000L;
+				cachedDateKey = dateKey;
+			}
+			return cachedDayMillis
+					+ digits(p + 11, 2) * 3_600_000L
+					+ digits(p + 14, 2) * 60_000L
+					+ digits(p + 17, 2) * 1_000L
+					+ digits(p + 20, 3);
+		}
+
+		private int digits(int p, int len) {
+			int v = 0;
+			for (int i = 0; i < len; i++) {
+				v = v * 10 + (buf.get(p + i) - '0');
+			}
+			return v;
+		}
+
+		private int indexOf(byte[] pattern, int from, int end) {
+			outer:
+			for (int i = from; i <= end - pattern.length; i++) {
+				for (int j = 0; j < pattern.length; j++) {
+					if (buf.get(i + j) != pattern[j]) {
+						continue outer;
+					}
+				}
+				return i;
+			}
+			return -1;
+		}
+
+		private String decode(int start, int end) {
+			int len = end - start;
+			if (scratch.length < len) {
+				scratch = new byte[Math.max(len, scratch.length * 2)];
+			}
+			for (int i = 0; i < len; i++) {
+				scratch[i] = buf.get(start + i);
+			}
+			return new String(scratch, 0, len, StandardCharsets.UTF_8);
+		}
+
+		private static boolean isDigit(byte b) {
+			return b >= '0' && b <= '9';
+		}
+
+		private static int leadingInt(String s, int from) {
+			int v = 0;
+			for (int i = from; i < s.length(); i++) {
+				char c = s.charAt(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				v = v * 10 + (c - '0');
+			}
+			return v;
+		}
+	}
+}
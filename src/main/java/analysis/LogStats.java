@@ -0,0 +1,261 @@
+package analysis;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import model.MenuItem;
+
+/**
+ * 로그 구간(chunk) 하나의 집계 결과
+ *
+ * 구간은 파일 순서대로 {@link #merge(LogStats)} 되므로, 구간 경계에 걸친 조리/배달
+ * (앞 구간에서 시작, 뒤 구간에서 종료)도 병합 시점에 짝지어 계산됩니다.
+ */
+class LogStats {
+
+	// 주문별 시각 인덱스
+	static final int CREATED = 0;
+	static final int READY = 1;
+	static final int PICKED_UP = 2;
+	static final int DELIVERED = 3;
+
+	private static final long NONE = -1;
+
+	long firstTs = NONE;
+	long lastTs = NONE;
+	long lineCount;
+
+	final Map<Integer, long[]> orders = new HashMap<>();
+	final Map<Integer, WorkerTrack> chefs = new TreeMap<>();
+	final Map<Integer, WorkerTrack> riders = new TreeMap<>();
+	final Map<MenuItem, Long> menuOrdered = new EnumMap<>(MenuItem.class);
+	final Map<MenuItem, Long> urgentByMenu = new EnumMap<>(MenuItem.class);
+
+	void seen(long ts) {
+		if (firstTs == NONE) {
+			firstTs = ts;
+		}
+		lastTs = ts;
+		lineCount++;
+	}
+
+	void orderEvent(int orderId, int stage, long ts) {
+		long[] times = orders.computeIfAbsent(orderId, k -> newTimes());
+		times[stage] = ts;
+	}
+
+	void menuOrdered(MenuItem menu) {
+		menuOrdered.merge(menu, 1L, Long::sum);
+	}
+
+	void urgent(MenuItem menu) {
+		urgentByMenu.merge(menu, 1L, Long::sum);
+	}
+
+	WorkerTrack chef(int chefId) {
+		return chefs.computeIfAbsent(chefId, k -> new WorkerTrack());
+	}
+
+	WorkerTrack rider(int riderId) {
+		return riders.computeIfAbsent(riderId, k -> new WorkerTrack());
+	}
+
+	/**
+	 * 바로 뒤 구간의 결과를 병합합니다. (this가 파일상 앞 구간)
+	 */
+	LogStats merge(LogStats next) {
+		if (firstTs == NONE) {
+			firstTs = next.firstTs;
+		}
+		if (next.lastTs != NONE) {
+			lastTs = next.lastTs;
+		}
+		lineCount += next.lineCount;
+
+		for (Map.Entry<Integer, long[]> e : next.orders.entrySet()) {
+			long[] mine = orders.get(e.getKey());
+			if (mine == null) {
+				orders.put(e.getKey(), e.getValue());
+			} else {
+				for (int i = 0; i < mine.length; i++) {
+					if (e.getValue()[i] != NONE) {
+						mine[i] = e.getValue()[i];
+					}
+				}
+			}
+		}
+
+		mergeTracks(chefs, next.chefs);
+		mergeTracks(riders, next.riders);
+		next.menuOrdered.forEach((k, v) -> menuOrdered.merge(k, v, Long::sum));
+		next.urgentByMenu.forEach((k, v) -> urgentByMenu.merge(k, v, Long::sum));
+		return this;
+	}
+
+	private static void mergeTracks(Map<Integer, WorkerTrack> mine, Map<Integer, WorkerTrack> next) {
+		for (Map.Entry<Integer, WorkerTrack> e : next.entrySet()) {
+			WorkerTrack track = mine.get(e.getKey());
+			if (track == null) {
+				mine.put(e.getKey(), e.getValue());
+			} else {
+				track.merge(e.getValue());
+			}
+		}
+	}
+
+	private static long[] newTimes() {
+		long[] times = new long[4];
+		Arrays.fill(times, NONE);
+		return times;
+	}
+
+	// ── 보고서 ──
+
+	void report(PrintStream out, boolean perOrder) {
+		long span = Math.max(1, lastTs - firstTs);
+		out.printf("분석 라인 수: %,d (기간 %.1f초)%n", lineCount, span / 1000.0);
+
+		List<long[]> cook = new ArrayList<>();
+		List<long[]> delivery = new ArrayList<>();
+		if (perOrder) {
+			out.println();
+			out.println("orderId,cookMs,deliveryMs");
+		}
+		for (Map.Entry<Integer, long[]> e : new TreeMap<>(orders).entrySet()) {
+			long[] t = e.getValue();
+			long cookMs = duration(t[CREATED], t[READY]);
+			long deliveryMs = duration(t[PICKED_UP], t[DELIVERED]);
+			if (cookMs != NONE) {
+				cook.add(new long[] { e.getKey(), cookMs });
+			}
+			if (deliveryMs != NONE) {
+				delivery.add(new long[] { e.getKey(), deliveryMs });
+			}
+			if (perOrder) {
+				out.println(e.getKey() + "," + blankIfNone(cookMs) + "," + blankIfNone(deliveryMs));
+			}
+		}
+
+		out.println();
+		out.println("== 주문별 소요 시간 ==");
+		printDurations(out, "조리 (접수→배달 큐)", cook);
+		printDurations(out, "배달 (출발→완료)", delivery);
+
+		out.println();
+		out.println("== 요리사 가동률 ==");
+		printUtilization(out, "요리사", chefs, span);
+
+		out.println();
+		out.println("== 배달원 가동률 ==");
+		printUtilization(out, "배달원", riders, span);
+
+		out.println();
+		out.println("== 메뉴 인기 순위 ==");
+		menuOrdered.entrySet().stream()
+				.sorted(Map.Entry.<MenuItem, Long>comparingByValue().reversed())
+				.forEach(e -> out.printf("  %-6s %,d%n", e.getKey().getName(), e.getValue()));
+
+		out.println();
+		long urgentTotal = urgentByMenu.values().stream().mapToLong(Long::longValue).sum();
+		out.printf("== 긴급 조리 발동: %,d회 ==%n", urgentTotal);
+		urgentByMenu.forEach((menu, count) -> out.printf("  %-6s %,d%n", menu.getName(), count));
+	}
+
+	private void printDurations(PrintStream out, String label, List<long[]> samples) {
+		if (samples.isEmpty()) {
+			out.printf("  %s: 데이터 없음%n", label);
+			return;
+		}
+		long[] sorted = samples.stream().mapToLong(s -> s[1]).sorted().toArray();
+		long sum = 0;
+		for (long v : sorted) {
+			sum += v;
+		}
+		long[] slowest = samples.stream().max((a, b) -> Long.compare(a[1], b[1])).get();
+		out.printf("  %s: %,d건, 평균 %,dms, p50 %,dms, p99 %,dms, 최대 %,dms (주문#%d)%n", label, sorted.length,
+				sum / sorted.length, percentile(sorted, 50), percentile(sorted, 99), slowest[1], slowest[0]);
+	}
+
+	private void printUtilization(PrintStream out, String label, Map<Integer, WorkerTrack> tracks, long span) {
+		for (Map.Entry<Integer, WorkerTrack> e : tracks.entrySet()) {
+			WorkerTrack track = e.getValue();
+			long busy = track.totalBusy(firstTs, lastTs);
+			out.printf("  %s#%d: %5.1f%% (%,d건)%n", label, e.getKey(), busy * 100.0 / span, track.jobs);
+		}
+	}
+
+	private static long percentile(long[] sorted, int p) {
+		int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+	}
+
+	private static long duration(long from, long to) {
+		return (from == NONE || to == NONE || to < from) ? NONE : to - from;
+	}
+
+	private static String blankIfNone(long v) {
+		return v == NONE ? "" : String.valueOf(v);
+	}
+
+	/**
+	 * 요리사/배달원 한 명의 작업 구간(시작→종료) 누적
+	 *
+	 * 구간 안에서 짝이 맞지 않은 첫 종료({@code leadingEnd})와 마지막 시작({@code openStart})을 남겨 두었다가
+	 * 앞 구간의 openStart와 뒤 구간의 leadingEnd를 병합 시 짝지어 계산합니다.
+	 */
+	static final class WorkerTrack {
+		long busyMs;
+		long jobs;
+		long leadingEnd = NONE;
+		long openStart = NONE;
+		boolean hasStart;
+
+		void start(long ts) {
+			openStart = ts;
+			hasStart = true;
+		}
+
+		void end(long ts) {
+			jobs++;
+			if (openStart != NONE) {
+				busyMs += ts - openStart;
+				openStart = NONE;
+			} else if (!hasStart && leadingEnd == NONE) {
+				leadingEnd = ts;
+			}
+		}
+
+		void merge(WorkerTrack next) {
+			busyMs += next.busyMs;
+			jobs += next.jobs;
+			if (openStart != NONE && next.leadingEnd != NONE) {
+				busyMs += next.leadingEnd - openStart;
+			}
+			if (leadingEnd == NONE && !hasStart) {
+				leadingEnd = next.leadingEnd;
+			}
+			if (next.hasStart || next.leadingEnd != NONE) {
+				openStart = next.openStart;
+			}
+			hasStart |= next.hasStart;
+		}
+
+		// 로그 시작 전에 시작했거나 로그 끝까지 끝나지 않은 작업은 로그 경계까지로 계산
+		long totalBusy(long logStart, long logEnd) {
+			long busy = busyMs;
+			if (leadingEnd != NONE) {
+				busy += leadingEnd - logStart;
+			}
+			if (openStart != NONE) {
+				busy += logEnd - openStart;
+			}
+			return busy;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import core.QueueManager;
+
+/**
+ * 설정 파일 변경 감시 스레드
+ *
+ * 주기적으로 파일의 수정 시각을 확인하여 변경되면 설정을 다시 읽고, 새 큐 용량을 {@link QueueManager}에 반영합니다.
+ * 조리 시간·임계치 등 나머지 값은 각 스레드가 다음 작업부터 {@link RestaurantConfig}에서 새로 읽습니다.
+ */
+public class ConfigReloader implements Runnable {
+
+	private static final int CHECK_INTERVAL_MS = 1000;
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(ConfigReloader.class);
+
+	private final Path configFile;
+	private final RestaurantConfig config;
+	private final QueueManager queueManager;
+	private volatile boolean running = true;
+	private long lastModified;
+
+	public ConfigReloader(Path configFile, RestaurantConfig config, QueueManager queueManager) {
+		this.configFile = configFile;
+		this.config = config;
+		this.queueManager = queueManager;
+		this.lastModified = modifiedTime();
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				Thread.sleep(CHECK_INTERVAL_MS);
+
+				long modified = modifiedTime();
+				if (modified != lastModified) {
+					lastModified = modified;
+					reload();
+				}
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 설정 파일을 다시 읽어 즉시 반영합니다.
+	 */
+	public void reload() {
+		logger.info("[설정] 설정 파일 변경 감지: {}", configFile);
+		config.reload(configFile);
+		queueManager.resize(config.getMenuQueueSize(), config.getDeliveryQueueSize());
+	}
+
+	public void stop() {
+		running = false;
+	}
+
+	// 파일이 없으면 0 (생성/삭제도 변경으로 간주)
+	private long modifiedTime() {
+		try {
+			return Files.exists(configFile) ? Files.getLastModifiedTime(configFile).toMillis() : 0;
+		} catch (IOException e) {
+			return lastModified;
+		}
+	}
+}
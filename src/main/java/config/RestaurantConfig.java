@@ -0,0 +1,200 @@
+package config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import model.MenuItem;
+
+/**
+ * 식당 운영 튜닝 값 (큐 용량, 긴급 임계치, 조리/배달 시간 등)
+ *
+ * 기본값은 클래스패스의 {@code restaurant.properties}에서 읽고, 외부 설정 파일이 있으면 덮어씁니다.
+ * 모든 값은 volatile로 보관되어 {@link #reload(Path)} 이후 각 스레드가 다음 작업부터 새 값을 사용합니다.
+ */
+public class RestaurantConfig {
+
+	private static final String DEFAULT_RESOURCE = "/restaurant.properties";
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RestaurantConfig.class);
+
+	private volatile int menuQueueSize = 10;
+	private volatile int deliveryQueueSize = 5;
+	private volatile int urgentPercent = 80;
+	private volatile int[] cookTimes; // MenuItem.ordinal() 인덱스
+	private volatile int deliveryMinMs = 20000;
+	private volatile int deliveryJitterMs = 5000;
+	private volatile int riderCooldownMs = 1000;
+	private volatile int orderIntervalMinMs = 100;
+	private volatile int orderIntervalJitterMs = 100;
+	private volatile int inventoryCapacity = 100;
+	private volatile int restockAmount = 20;
+	private volatile int restockIntervalMs = 5000;
+
+	public RestaurantConfig() {
+		MenuItem[] menus = MenuItem.values();
+		int[] defaults = new int[menus.length];
+		for (MenuItem menu : menus) {
+			defaults[menu.ordinal()] = menu.getCookTime();
+		}
+		this.cookTimes = defaults;
+	}
+
+	/**
+	 * 클래스패스 기본값 위에 외부 설정 파일(있을 경우)을 덮어쓴 설정을 생성합니다.
+	 */
+	public static RestaurantConfig load(Path externalFile) {
+		RestaurantConfig config = new RestaurantConfig();
+		config.reload(externalFile);
+		return config;
+	}
+
+	/**
+	 * 설정을 다시 읽어 현재 값에 반영합니다. 잘못된 값은 경고 후 기존 값을 유지합니다.
+	 */
+	public synchronized void reload(Path externalFile) {
+		Properties props = new Properties();
+		try (InputStream in = RestaurantConfig.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+			if (in != null) {
+				props.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+			}
+		} catch (IOException e) {
+			logger.warn("[설정] 기본 설정 로드 실패: {}", e.getMessage());
+		}
+
+		if (externalFile != null && Files.isRegularFile(externalFile)) {
+			try (Reader reader = Files.newBufferedReader(externalFile, StandardCharsets.UTF_8)) {
+				props.load(reader);
+			} catch (IOException e) {
+				logger.warn("[설정] 설정 파일 로드 실패: {} ({})", externalFile, e.getMessage());
+			}
+		}
+
+		apply(props);
+	}
+
+	public synchronized void apply(Properties props) {
+		menuQueueSize = positive(props, "queue.menu.size", menuQueueSize);
+		deliveryQueueSize = positive(props, "queue.delivery.size", deliveryQueueSize);
+		urgentPercent = Math.min(100, positive(props, "kitchen.urgentPercent", urgentPercent));
+
+		int[] newCookTimes = cookTimes.clone();
+		for (MenuItem menu : MenuItem.values()) {
+			newCookTimes[menu.ordinal()] = positive(props, "cook." + menu.name(), newCookTimes[menu.ordinal()]);
+		}
+		cookTimes = newCookTimes;
+
+		deliveryMinMs = nonNegative(props, "delivery.minMs", deliveryMinMs);
+		deliveryJitterMs = nonNegative(props, "delivery.jitterMs", deliveryJitterMs);
+		riderCooldownMs = nonNegative(props, "delivery.cooldownMs", riderCooldownMs);
+		orderIntervalMinMs = nonNegative(props, "order.intervalMinMs", orderIntervalMinMs);
+		orderIntervalJitterMs = nonNegative(props, "order.intervalJitterMs", orderIntervalJitterMs);
+		inventoryCapacity = positive(props, "inventory.capacity", inventoryCapacity);
+		restockAmount = nonNegative(props, "inventory.restockAmount", restockAmount);
+		restockIntervalMs = positive(props, "inventory.restockIntervalMs", restockIntervalMs);
+
+		logger.info("[설정] 적용: 메뉴 큐 {}, 배달 큐 {}, 긴급 임계치 {}%", menuQueueSize, deliveryQueueSize, urgentPercent);
+	}
+
+	/**
+	 * 현재 값을 설정 파일과 같은 키의 Properties로 반환합니다.
+	 */
+	public Properties toProperties() {
+		Properties props = new Properties();
+		props.setProperty("queue.menu.size", String.valueOf(menuQueueSize));
+		props.setProperty("queue.delivery.size", String.valueOf(deliveryQueueSize));
+		props.setProperty("kitchen.urgentPercent", String.valueOf(urgentPercent));
+		for (MenuItem menu : MenuItem.values()) {
+			props.setProperty("cook." + menu.name(), String.valueOf(getCookTime(menu)));
+		}
+		props.setProperty("delivery.minMs", String.valueOf(deliveryMinMs));
+		props.setProperty("delivery.jitterMs", String.valueOf(deliveryJitterMs));
+		props.setProperty("delivery.cooldownMs", String.valueOf(riderCooldownMs));
+		props.setProperty("order.intervalMinMs", String.valueOf(orderIntervalMinMs));
+		props.setProperty("order.intervalJitterMs", String.valueOf(orderIntervalJitterMs));
+		props.setProperty("inventory.capacity", String.valueOf(inventoryCapacity));
+		props.setProperty("inventory.restockAmount", String.valueOf(restockAmount));
+		props.setProperty("inventory.restockIntervalMs", String.valueOf(restockIntervalMs));
+		return props;
+	}
+
+	private static int positive(Properties props, String key, int current) {
+		int value = nonNegative(props, key, current);
+		if (value == 0) {
+			logger.warn("[설정] {} 값은 1 이상이어야 합니다. 기존 값 {} 유지", key, current);
+			return current;
+		}
+		return value;
+	}
+
+	private static int nonNegative(Properties props, String key, int current) {
+		String raw = props.getProperty(key);
+		if (raw == null) {
+			return current;
+		}
+		try {
+			int value = Integer.parseInt(raw.trim());
+			if (value < 0) {
+				logger.warn("[설정] {} 값이 음수입니다: {}. 기존 값 {} 유지", key, raw, current);
+				return current;
+			}
+			return value;
+		} catch (NumberFormatException e) {
+			logger.warn("[설정] {} 값이 숫자가 아닙니다: {}. 기존 값 {} 유지", key, raw, current);
+			return current;
+		}
+	}
+
+	// Getters
+	public int getMenuQueueSize() {
+		return menuQueueSize;
+	}
+
+	public int getDeliveryQueueSize() {
+		return deliveryQueueSize;
+	}
+
+	public int getUrgentPercent() {
+		return urgentPercent;
+	}
+
+	public int getCookTime(MenuItem menu) {
+		return cookTimes[menu.ordinal()];
+	}
+
+	public int getDeliveryMinMs() {
+		return deliveryMinMs;
+	}
+
+	public int getDeliveryJitterMs() {
+		return deliveryJitterMs;
+	}
+
+	public int getRiderCooldownMs() {
+		return riderCooldownMs;
+	}
+
+	public int getOrderIntervalMinMs() {
+		return orderIntervalMinMs;
+	}
+
+	public int getOrderIntervalJitterMs() {
+		return orderIntervalJitterMs;
+	}
+
+	public int getInventoryCapacity() {
+		return inventoryCapacity;
+	}
+
+	public int getRestockAmount() {
+		return restockAmount;
+	}
+
+	public int getRestockIntervalMs() {
+		return restockIntervalMs;
+	}
+}
@@ -2,17 +2,47 @@ package core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import config.RestaurantConfig;
+import engine.TimerWheelEngine;
+import event.OrderEventBus;
+import ledger.SalesLedger;
+import model.Order;
 import thread.RiderWorker;
 
 public class DeliveryCenter {
     private final int riderCount;
     private final QueueManager queueManager;
     private final List<RiderWorker> riders;
+    private final List<Thread> riderThreads = new ArrayList<>();
+    private final RestaurantConfig config;
+    private Consumer<Order> deliveryListener;
+    private final DeliveryStats stats = new DeliveryStats();
+    private final SalesLedger ledger; // null이면 매출 기록 안 함
+    private final OrderEventBus eventBus; // null이면 주문 이벤트 발행 안 함
 
-    public DeliveryCenter(int riderCount, QueueManager queueManager) {
+    public DeliveryCenter(int riderCount, QueueManager queueManager, RestaurantConfig config) {
+        this(riderCount, queueManager, config, null);
+    }
+
+    /**
+     * @param ledger 배달 완료 시 판매를 기록할 매출 장부 (null이면 기록 안 함)
+     */
+    public DeliveryCenter(int riderCount, QueueManager queueManager, RestaurantConfig config, SalesLedger ledger) {
+        this(riderCount, queueManager, config, ledger, null);
+    }
+
+    /**
+     * @param eventBus 배달 출발·배달 완료를 알릴 주문 이벤트 스트림 (null이면 발행 안 함)
+     */
+    public DeliveryCenter(int riderCount, QueueManager queueManager, RestaurantConfig config, SalesLedger ledger,
+            OrderEventBus eventBus) {
         this.riderCount = riderCount;
         this.queueManager = queueManager;
+        this.config = config;
+        this.ledger = ledger;
+        this.eventBus = eventBus;
         this.riders = new ArrayList<>();
     }
 
@@ -22,10 +52,47 @@ public class DeliveryCenter {
     public void startOperations() {
         for (int i = 1; i <= riderCount; i++) {
             // 배달원은 배달 전용 큐 하나만 주시하면 됩니다.
-            RiderWorker rider = new RiderWorker(i, queueManager.getDeliveryQueue());
+            RiderWorker rider = createRider(i);
             Thread thread = new Thread(rider, "Rider-" + i);
             thread.start();
             riders.add(rider);
+            riderThreads.add(thread);
+        }
+    }
+
+    /**
+     * 배달원별 스레드 없이 타이머 휠 엔진의 이벤트로 배달원을 구동합니다.
+     */
+    public void startOperations(TimerWheelEngine engine) {
+        for (int i = 1; i <= riderCount; i++) {
+            RiderWorker rider = createRider(i);
+            engine.drive(rider);
+            riders.add(rider);
+        }
+    }
+
+    private RiderWorker createRider(int riderId) {
+        RiderWorker rider = new RiderWorker(riderId, queueManager.getDeliveryQueue(), config, stats, ledger, eventBus);
+        rider.setDeliveryListener(deliveryListener);
+        return rider;
+    }
+
+    /**
+     * 배달 완료 시 호출될 리스너를 등록합니다. {@link #startOperations()} 이전에 호출해야 합니다.
+     */
+    public void setDeliveryListener(Consumer<Order> deliveryListener) {
+        this.deliveryListener = deliveryListener;
+    }
+
+    /**
+     * 배달원을 모두 중단합니다. (엔진 구동 배달원은 다음 일감 탐색부터 멈춤)
+     */
+    public void stop() {
+        for (RiderWorker rider : riders) {
+            rider.stop();
+        }
+        for (Thread thread : riderThreads) {
+            thread.interrupt();
         }
     }
 
@@ -35,4 +102,12 @@ public class DeliveryCenter {
     public List<RiderWorker> getRiderStatus() {
         return riders;
     }
+
+    public SalesLedger getLedger() {
+        return ledger;
+    }
+
+    public DeliveryStats getStats() {
+        return stats;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 배달 집계 (배달원이 출발/완료 시 증분 갱신, 대시보드 요약 화면용)
+ */
+public class DeliveryStats {
+
+	private final AtomicInteger delivering = new AtomicInteger();
+	private final LongAdder delivered = new LongAdder();
+
+	public void tripStarted() {
+		delivering.incrementAndGet();
+	}
+
+	public void tripFinished() {
+		delivering.decrementAndGet();
+		delivered.increment();
+	}
+
+	public int getDelivering() {
+		return delivering.get();
+	}
+
+	public long getDelivered() {
+		return delivered.sum();
+	}
+}
@@ -0,0 +1,61 @@
+package core;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import model.Order;
+
+/**
+ * 주문 단위 동시 조리(gang scheduling) 게시판
+ *
+ * 요리사가 여러 메뉴로 구성된 주문의 첫 메뉴를 집으면 그 주문을 게시판에 올리고, 쉬고 있던 요리사들을 깨웁니다.
+ * 다른 요리사들은 일반 탐색보다 게시판을 먼저 확인하여 같은 주문의 남은 메뉴를 메뉴 큐 중간에서 꺼내
+ * 동시에 조리합니다. 메뉴들이 거의 같은 시각에 완성되므로 주문의 "첫 메뉴 완료 → 마지막 메뉴 완료" 편차가 줄어듭니다.
+ *
+ * 모든 메뉴의 조리가 시작된 주문은 다음 탐색 때 게시판에서 제거됩니다.
+ */
+public class GangScheduler {
+
+	private final ConcurrentLinkedQueue<Order> board = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition workPublished = lock.newCondition();
+
+	/**
+	 * 아직 시작되지 않은 메뉴가 남은 주문을 게시하고 대기 중인 요리사를 깨웁니다.
+	 */
+	public void publish(Order order) {
+		board.add(order);
+		lock.lock();
+		try {
+			workPublished.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 게시된 주문 목록 (게시 순 = 먼저 시작된 주문부터), 순회 중 remove 가능
+	 */
+	public Iterator<Order> openOrders() {
+		return board.iterator();
+	}
+
+	/**
+	 * 일감이 없는 스레드 모드 요리사용: 새 주문이 게시되거나 timeoutMs가 지날 때까지 대기
+	 */
+	public void awaitWork(long timeoutMs) throws InterruptedException {
+		lock.lock();
+		try {
+			workPublished.await(timeoutMs, TimeUnit.MILLISECONDS);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getOpenOrderCount() {
+		return board.size();
+	}
+}
@@ -3,6 +3,10 @@ package core;
 import java.util.ArrayList;
 import java.util.List;
 
+import config.RestaurantConfig;
+import engine.TimerWheelEngine;
+import event.OrderEventBus;
+import inventory.Inventory;
 import thread.ChefWorker;
 
 public class Kitchen {
@@ -10,19 +14,45 @@ public class Kitchen {
     private final List<ChefWorker> chefs = new ArrayList<>();
     private final List<Thread> chiefThreads = new ArrayList<>();
     private QueueManager queueManager;
+    private final RestaurantConfig config;
+    private final KitchenStats stats = new KitchenStats();
+    private final GangScheduler gang; // null이면 메뉴 단위 선착순(FCFS)
+    private final Inventory inventory; // null이면 재고 제한 없음
+    private final OrderEventBus eventBus; // null이면 주문 이벤트 발행 안 함
     private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(Kitchen.class);
 
     
-    public Kitchen(int chefCount, QueueManager queueManager) {
+    public Kitchen(int chefCount, QueueManager queueManager, RestaurantConfig config) {
+		this(chefCount, queueManager, config, false, null);
+	}
+
+    /**
+     * @param gangScheduling true면 한 주문의 메뉴들을 여러 요리사가 동시에 조리하도록 스케줄링
+     * @param inventory      조리 시작 시 재료를 차감할 재고 (null이면 재고 제한 없음)
+     */
+    public Kitchen(int chefCount, QueueManager queueManager, RestaurantConfig config, boolean gangScheduling,
+            Inventory inventory) {
+		this(chefCount, queueManager, config, gangScheduling, inventory, null);
+	}
+
+    /**
+     * @param eventBus 메뉴 조리 완료·주문 조리 완료를 알릴 주문 이벤트 스트림 (null이면 발행 안 함)
+     */
+    public Kitchen(int chefCount, QueueManager queueManager, RestaurantConfig config, boolean gangScheduling,
+            Inventory inventory, OrderEventBus eventBus) {
 		super();
 		this.chefCount = chefCount;
 		this.queueManager = queueManager;
+		this.config = config;
+		this.gang = gangScheduling ? new GangScheduler() : null;
+		this.inventory = inventory;
+		this.eventBus = eventBus;
 	}
 
 	public void startOperations() {
         // 요리사 투입
         for (int i = 0; i < chefCount; i++) {
-            ChefWorker chef = new ChefWorker(i, queueManager);
+            ChefWorker chef = new ChefWorker(i, queueManager, config, stats, gang, inventory, eventBus);
             Thread thread = new Thread(chef, "요리사#" + i);
             thread.start();
             
@@ -33,6 +63,19 @@ public class Kitchen {
         logger.info("[주방] 요리사 " + chefCount + "명 투입 완료");
     }
 
+    /**
+     * 요리사별 스레드 없이 타이머 휠 엔진의 이벤트로 요리사를 구동합니다.
+     */
+    public void startOperations(TimerWheelEngine engine) {
+        for (int i = 0; i < chefCount; i++) {
+            ChefWorker chef = new ChefWorker(i, queueManager, config, stats, gang, inventory, eventBus);
+            engine.drive(chef);
+            chefs.add(chef);
+        }
+
+        logger.info("[주방] 요리사 " + chefCount + "명 투입 완료 (이벤트 엔진)");
+    }
+
     public List<String> getStatusReport() {
         List<String> report = new ArrayList<>();
         
@@ -47,10 +90,26 @@ public class Kitchen {
         for (ChefWorker chief : chefs) {
         	chief.stop();
         }
+        // 배달 큐가 가득 차 대기 중인 요리사도 깨워서 종료
+        for (Thread thread : chiefThreads) {
+        	thread.interrupt();
+        }
         logger.info("[주방] 영업 종료");
     }
 
     public List<ChefWorker> getChiefs() {
         return chefs;
     }
+
+    public boolean isGangScheduling() {
+        return gang != null;
+    }
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public KitchenStats getStats() {
+        return stats;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 메뉴별 주방 집계 (요리사 스레드가 조리 시작/종료 시 증분 갱신)
+ *
+ * 대시보드는 요리사 목록을 순회하지 않고 이 집계만 읽으므로, 프레임 비용이 요리사 수와 무관하게
+ * 메뉴 수에 비례합니다. 여러 값을 락 없이 갱신하므로 읽는 시점에 따라 근사치일 수 있습니다.
+ */
+public class KitchenStats {
+
+	private static final int MENUS = MenuItem.values().length;
+
+	// MenuItem.ordinal() 인덱스
+	private final AtomicLongArray activeChefs = new AtomicLongArray(MENUS);
+	private final AtomicLongArray sumStartMs = new AtomicLongArray(MENUS);
+	private final AtomicLongArray sumEndMs = new AtomicLongArray(MENUS);
+	private final LongAdder[] cookedItems = new LongAdder[MENUS];
+	private final LongAdder readyOrders = new LongAdder();
+	private final long startedAt = System.currentTimeMillis();
+
+	// 여러 메뉴로 구성된 주문의 첫 메뉴 완료 → 마지막 메뉴 완료 편차(ms)
+	private final LongAdder spreadOrders = new LongAdder();
+	private final LongAdder spreadSumMs = new LongAdder();
+	private final LongAccumulator spreadMaxMs = new LongAccumulator(Math::max, 0);
+
+	// 조리가 시작되었지만 아직 배달 큐로 넘어가지 않은 주문 (주문 번호순 = 접수순)
+	private final ConcurrentSkipListMap<Integer, Order> ordersInKitchen = new ConcurrentSkipListMap<>();
+	// ordersInKitchen 크기 (ConcurrentSkipListMap.size()는 전체를 훑으므로 별도로 셈)
+	private final LongAdder ordersInKitchenCount = new LongAdder();
+
+	public KitchenStats() {
+		for (int i = 0; i < MENUS; i++) {
+			cookedItems[i] = new LongAdder();
+		}
+	}
+
+	public void cookStarted(Order order, MenuItem menu, long startMs, long endMs) {
+		int m = menu.ordinal();
+		sumStartMs.addAndGet(m, startMs);
+		sumEndMs.addAndGet(m, endMs);
+		activeChefs.incrementAndGet(m);
+		if (ordersInKitchen.putIfAbsent(order.getOrderId(), order) == null) {
+			ordersInKitchenCount.increment();
+		}
+	}
+
+	public void cookFinished(MenuItem menu, long startMs, long endMs) {
+		int m = menu.ordinal();
+		activeChefs.decrementAndGet(m);
+		sumStartMs.addAndGet(m, -startMs);
+		sumEndMs.addAndGet(m, -endMs);
+		cookedItems[m].increment();
+	}
+
+	public void orderReady(Order order) {
+		if (ordersInKitchen.remove(order.getOrderId()) != null) {
+			ordersInKitchenCount.decrement();
+		}
+		readyOrders.increment();
+
+		long spread = order.getCompletionSpreadMs();
+		if (order.getTotalItems() > 1 && spread >= 0) {
+			spreadOrders.increment();
+			spreadSumMs.add(spread);
+			spreadMaxMs.accumulate(spread);
+		}
+	}
+
+	public int getActiveChefs(MenuItem menu) {
+		return (int) Math.max(0, activeChefs.get(menu.ordinal()));
+	}
+
+	/**
+	 * 해당 메뉴를 조리 중인 요리사들의 평균 진행률(0~100%)
+	 * 같은 메뉴는 조리 시간이 같으므로 Σ(now - start) / Σ(end - start)로 계산합니다.
+	 */
+	public int getAverageProgress(MenuItem menu, long now) {
+		int m = menu.ordinal();
+		long active = activeChefs.get(m);
+		long sumStart = sumStartMs.get(m);
+		long totalDuration = sumEndMs.get(m) - sumStart;
+		if (active <= 0 || totalDuration <= 0) {
+			return 0;
+		}
+		long elapsed = active * now - sumStart;
+		return (int) Math.max(0, Math.min(100, elapsed * 100 / totalDuration));
+	}
+
+	public long getCookedItems(MenuItem menu) {
+		return cookedItems[menu.ordinal()].sum();
+	}
+
+	public long getReadyOrders() {
+		return readyOrders.sum();
+	}
+
+	/**
+	 * 집계 시작 이후 분당 완성 주문 수 (전체 처리량)
+	 */
+	public double getReadyPerMinute(long now) {
+		long elapsed = Math.max(1, now - startedAt);
+		return readyOrders.sum() * 60_000.0 / elapsed;
+	}
+
+	public long getAverageSpreadMs() {
+		long count = spreadOrders.sum();
+		return count == 0 ? 0 : spreadSumMs.sum() / count;
+	}
+
+	public long getMaxSpreadMs() {
+		return spreadMaxMs.get();
+	}
+
+	public int getOrdersInKitchen() {
+		return (int) Math.max(0, ordersInKitchenCount.sum());
+	}
+
+	/**
+	 * 주방에 가장 오래 머문 주문 상위 limit개 (O(limit))
+	 */
+	public List<Order> getSlowestOrders(int limit) {
+		List<Order> result = new ArrayList<>(limit);
+		for (Map.Entry<Integer, Order> entry : ordersInKitchen.entrySet()) {
+			if (result.size() >= limit) {
+				break;
+			}
+			result.add(entry.getValue());
+		}
+		return result;
+	}
+}
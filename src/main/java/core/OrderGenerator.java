@@ -1,26 +1,43 @@
 package core;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import config.RestaurantConfig;
+import event.OrderEventBus;
+import inventory.Inventory;
+import jfr.OrderCreatedEvent;
 import model.MenuItem;
 import model.Order;
 
 public class OrderGenerator implements Runnable {
-    private static final int MAX_RECENT = 5;
     private final QueueManager queueManager;
-    private final AtomicInteger orderIdCounter = new AtomicInteger(100); // 100번부터 시작
+    private final RestaurantConfig config;
+    private final Inventory inventory; // null이면 재고 확인 없이 접수
+    private final OrderEventBus eventBus; // null이면 주문 이벤트 발행 안 함
     private final Random random = new Random();
-    private final LinkedList<String> recentOrders = new LinkedList<>();
-    private boolean running = true;
+    private volatile boolean running = true;
     private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(OrderGenerator.class);
 
-    public OrderGenerator(QueueManager queueManager) {
+    public OrderGenerator(QueueManager queueManager, RestaurantConfig config) {
+        this(queueManager, config, null);
+    }
+
+    public OrderGenerator(QueueManager queueManager, RestaurantConfig config, Inventory inventory) {
+        this(queueManager, config, inventory, null);
+    }
+
+    /**
+     * @param eventBus 접수된 주문을 알릴 주문 이벤트 스트림 (null이면 발행 안 함)
+     */
+    public OrderGenerator(QueueManager queueManager, RestaurantConfig config, Inventory inventory,
+            OrderEventBus eventBus) {
         this.queueManager = queueManager;
+        this.config = config;
+        this.inventory = inventory;
+        this.eventBus = eventBus;
     }
 
     public void stop() {
@@ -32,21 +49,28 @@ public class OrderGenerator implements Runnable {
         while (running) {
             try {
                 // 1. 주문 생성
+                OrderCreatedEvent created = new OrderCreatedEvent();
+                created.begin();
                 Order newOrder = createRandomOrder();
-                
-                // 2. 각 메뉴 큐에 주문 분배 (Fork)
+
+                // 재료가 부족하면 주문 거절
+                if (inventory != null && !inventory.canMake(newOrder.getItems())) {
+                    inventory.orderRejected();
+                    logger.warn("[재고] 재료 부족으로 주문 거절: #{}", newOrder.getOrderId());
+                    waitNextOrder();
+                    continue;
+                }
+
+                // 2. 접수 이벤트 발행 후 각 메뉴 큐에 주문 분배 (Fork)
+                //    분배 전에 발행해야 요리사의 조리 완료 이벤트보다 앞섬
+                if (eventBus != null) {
+                    eventBus.created(newOrder);
+                }
                 for (MenuItem item : newOrder.getItems()) {
                     queueManager.getMenuQueue(item).push(newOrder);
                 }
+                created.end();
 
-                // 3. 로그 기록 + 최근 주문 추가
-                String summary = formatOrder(newOrder);
-                synchronized (recentOrders) {
-                    recentOrders.addFirst(summary);
-                    if (recentOrders.size() > MAX_RECENT) {
-                        recentOrders.removeLast();
-                    }
-                }
                 // 3. 로그 기록
                 String menuList = newOrder.getItems().stream()
                         .map(MenuItem::getName) 
@@ -56,9 +80,15 @@ public class OrderGenerator implements Runnable {
                         newOrder.getOrderId(), 
                         menuList);
 
+                if (created.shouldCommit()) {
+                    created.orderId = newOrder.getOrderId();
+                    created.itemCount = newOrder.getTotalItems();
+                    created.menus = menuList;
+                    created.commit();
+                }
+
                 // 4. 다음 주문까지 무작위 대기
-//                Thread.sleep(1000 + random.nextInt(1000));
-                Thread.sleep(100 + random.nextInt(100));
+                waitNextOrder();
                 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -67,8 +97,13 @@ public class OrderGenerator implements Runnable {
         }
     }
 
+    private void waitNextOrder() throws InterruptedException {
+        int jitter = config.getOrderIntervalJitterMs();
+        Thread.sleep(config.getOrderIntervalMinMs() + (jitter > 0 ? random.nextInt(jitter) : 0));
+    }
+
     private Order createRandomOrder() {
-        int id = orderIdCounter.incrementAndGet(); // AtomicInteger method
+        int id = queueManager.nextOrderId();
         
         // 무작위로 1~3개의 메뉴 선택
         int itemCount = random.nextInt(3) + 1;
@@ -85,19 +120,4 @@ public class OrderGenerator implements Runnable {
 
         return new Order(id, selectedItems, address);
     }
-
-    private String formatOrder(Order order) {
-        StringBuilder items = new StringBuilder();
-        for (MenuItem item : order.getItems()) {
-            if (items.length() > 0) items.append(", ");
-            items.append(item.getName());
-        }
-        return String.format("#%d [%s] → %s", order.getOrderId(), items, order.getAddress());
-    }
-
-    public List<String> getRecentOrders() {
-        synchronized (recentOrders) {
-            return new ArrayList<>(recentOrders);
-        }
-    }
 }
\ No newline at end of file
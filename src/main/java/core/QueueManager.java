@@ -2,6 +2,7 @@ package core;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import model.MenuItem;
 import model.OrderQueue;
@@ -11,12 +12,10 @@ public class QueueManager {
     private final Map<MenuItem, OrderQueue> menuQueues;
     // 모든 조리가 완료된 주문이 들어가는 큐
     private final OrderQueue deliveryQueue;
-    private final int menuQueueSize;
-    private final int deliveryQueueSize;
+    // 주문 번호 발급 (내부 생성기와 외부 접수 서버가 공유)
+    private final AtomicInteger orderIdCounter = new AtomicInteger(100); // 100번부터 시작
 
     public QueueManager(int menuQueueSize, int deliveryQueueSize) {
-    	this.deliveryQueueSize = deliveryQueueSize;
-    	this.menuQueueSize = menuQueueSize;
         this.menuQueues = new EnumMap<>(MenuItem.class);
         this.deliveryQueue = new OrderQueue("deliveryQueue", deliveryQueueSize);
 
@@ -26,6 +25,13 @@ public class QueueManager {
         }
     }
 
+    /**
+     * 새 주문 번호를 발급
+     */
+    public int nextOrderId() {
+        return orderIdCounter.incrementAndGet(); // AtomicInteger method
+    }
+
     /**
      * 특정 메뉴에 해당하는 큐를 반환
      */
@@ -53,4 +59,21 @@ public class QueueManager {
     public int getQueueSize(MenuItem item) {
         return menuQueues.get(item).size();
     }
+
+    /**
+     * 특정 메뉴 큐의 현재 용량을 반환 (대시보드용)
+     */
+    public int getQueueCapacity(MenuItem item) {
+        return menuQueues.get(item).getCapacity();
+    }
+
+    /**
+     * 실행 중 모든 큐의 용량을 변경 (대기 중인 주문은 유지)
+     */
+    public void resize(int menuQueueSize, int deliveryQueueSize) {
+        for (OrderQueue queue : menuQueues.values()) {
+            queue.setCapacity(menuQueueSize);
+        }
+        deliveryQueue.setCapacity(deliveryQueueSize);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package engine;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 해시드 타이머 휠 (Hashed Timer Wheel)
+ *
+ * 하나의 틱(tick) 스레드가 일정 간격으로 휠을 한 칸씩 돌리며, 만료된 타이머의 작업을
+ * 작업 스레드 풀({@code executor})에 넘깁니다. 타이머 등록은 락 없는 큐를 거쳐 틱 스레드가
+ * 버킷에 배치하므로, 버킷 자체는 틱 스레드만 접근합니다.
+ *
+ * 등록/취소 O(1), 틱당 비용은 해당 버킷의 타이머 수에 비례합니다.
+ */
+public class HashedTimerWheel implements Runnable {
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(HashedTimerWheel.class);
+
+	private final long tickMs;
+	private final int mask;
+	private final Queue<Timeout>[] wheel;
+	private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+	private final ExecutorService executor;
+	private final long startTime;
+	private volatile boolean running = true;
+	private long tick;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public HashedTimerWheel(long tickMs, int wheelSize, ExecutorService executor) {
+		if (tickMs <= 0) {
+			throw new IllegalArgumentException("tickMs must be positive: " + tickMs);
+		}
+		// 버킷 인덱스를 비트 마스크로 계산하기 위해 2의 거듭제곱으로 맞춤
+		int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+		this.tickMs = tickMs;
+		this.mask = size - 1;
+		this.wheel = new Queue[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new ArrayDeque<>();
+		}
+		this.executor = executor;
+		this.startTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * delayMs 이후 task를 작업 스레드 풀에서 실행하도록 예약합니다.
+	 * 어느 스레드에서든 호출할 수 있습니다.
+	 */
+	public Timeout schedule(Runnable task, long delayMs) {
+		long deadline = System.currentTimeMillis() - startTime + Math.max(0, delayMs);
+		Timeout timeout = new Timeout(task, deadline);
+		pending.add(timeout);
+		return timeout;
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				long nextTickAt = startTime + tick * tickMs; // 틱 k의 버킷은 시각 k * tickMs에 만료
+				long sleepMs = nextTickAt - System.currentTimeMillis();
+				if (sleepMs > 0) {
+					Thread.sleep(sleepMs);
+				}
+
+				transferPending();
+				expire(wheel[(int) (tick & mask)]);
+				tick++;
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	// 새로 등록된 타이머를 남은 바퀴 수(rounds)와 함께 해당 버킷에 배치
+	private void transferPending() {
+		Timeout timeout;
+		while ((timeout = pending.poll()) != null) {
+			if (timeout.cancelled) {
+				continue;
+			}
+			// 마감 시각 이후의 첫 틱 경계로 올림 (일찍 실행되지 않음), 이미 지난 타이머는 현재 틱에서 처리
+			long ticks = Math.max((timeout.deadline + tickMs - 1) / tickMs, tick);
+			timeout.remainingRounds = (ticks - tick) / wheel.length;
+			wheel[(int) (ticks & mask)].add(timeout);
+		}
+	}
+
+	private void expire(Queue<Timeout> bucket) {
+		Iterator<Timeout> it = bucket.iterator();
+		while (it.hasNext()) {
+			Timeout timeout = it.next();
+			if (timeout.cancelled) {
+				it.remove();
+			} else if (timeout.remainingRounds <= 0) {
+				it.remove();
+				dispatch(timeout);
+			} else {
+				timeout.remainingRounds--;
+			}
+		}
+	}
+
+	private void dispatch(Timeout timeout) {
+		try {
+			executor.execute(timeout.task);
+		} catch (RejectedExecutionException e) {
+			logger.warn("[타이머 휠] 작업 스레드 풀 종료로 타이머 실행 생략");
+		}
+	}
+
+	public void stop() {
+		running = false;
+	}
+
+	public long getTickMs() {
+		return tickMs;
+	}
+
+	/**
+	 * 예약된 타이머 핸들. 취소 시 다음 틱에서 버킷에서 제거됩니다.
+	 */
+	public static final class Timeout {
+		private final Runnable task;
+		private final long deadline; // 휠 시작 기준 상대 시간(ms)
+		private long remainingRounds; // 틱 스레드 전용
+		private volatile boolean cancelled;
+
+		private Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		public void cancel() {
+			cancelled = true;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
+		}
+	}
+}
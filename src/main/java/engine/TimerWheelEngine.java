@@ -0,0 +1,124 @@
+package engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import thread.ChefWorker;
+import thread.RiderWorker;
+
+/**
+ * 이벤트 기반 실행 엔진
+ *
+ * 요리사/배달원마다 스레드를 두고 sleep 하는 대신, 조리·배달 완료를 타이머 휠의 이벤트로 예약하고
+ * 소수의 작업 스레드가 만료된 이벤트만 처리합니다. 스레드 수와 무관하게 수천 명의 요리사·배달원을
+ * 구동할 수 있습니다.
+ *
+ * 이벤트 핸들러는 작업 스레드 풀에서 실행되므로 절대 블로킹하지 않습니다.
+ * (빈 큐 / 가득 찬 배달 큐는 일정 시간 뒤 재시도 이벤트로 처리)
+ */
+public class TimerWheelEngine {
+
+	private static final int DEFAULT_IDLE_RETRY_MS = 100; // ChefWorker 스레드 모드의 대기 간격과 동일
+	private static final int WHEEL_SIZE = 512;
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(TimerWheelEngine.class);
+
+	private final ExecutorService workers;
+	private final HashedTimerWheel wheel;
+	private final Thread tickThread;
+	private final long idleRetryMs;    // 일감이 없을 때 재탐색 간격
+	private final long handOffRetryMs; // 배달 큐가 가득 찼을 때 재시도 간격
+
+	public TimerWheelEngine(int workerThreads, long tickMs) {
+		this(workerThreads, tickMs, DEFAULT_IDLE_RETRY_MS);
+	}
+
+	public TimerWheelEngine(int workerThreads, long tickMs, long idleRetryMs) {
+		this.idleRetryMs = idleRetryMs;
+		this.handOffRetryMs = Math.max(1, idleRetryMs / 2);
+		this.workers = Executors.newFixedThreadPool(workerThreads, namedThreads("엔진#"));
+		this.wheel = new HashedTimerWheel(tickMs, WHEEL_SIZE, workers);
+		this.tickThread = new Thread(wheel, "TimerWheel");
+		this.tickThread.setDaemon(true);
+	}
+
+	public void start() {
+		tickThread.start();
+		logger.info("[엔진] 타이머 휠 엔진 가동 (틱 {}ms)", wheel.getTickMs());
+	}
+
+	public void stop() {
+		wheel.stop();
+		tickThread.interrupt();
+		workers.shutdownNow();
+		logger.info("[엔진] 타이머 휠 엔진 종료");
+	}
+
+	// ── 요리사 ──
+
+	public void drive(ChefWorker chef) {
+		wheel.schedule(() -> chefFindWork(chef), 0);
+	}
+
+	private void chefFindWork(ChefWorker chef) {
+		if (!chef.isRunning()) {
+			return;
+		}
+		long cookTime = chef.tryStartWork();
+		if (cookTime < 0) {
+			wheel.schedule(() -> chefFindWork(chef), idleRetryMs);
+		} else {
+			wheel.schedule(() -> chefCookDone(chef), cookTime);
+		}
+	}
+
+	private void chefCookDone(ChefWorker chef) {
+		if (chef.completeWork()) {
+			chefFindWork(chef);
+		} else {
+			wheel.schedule(() -> chefRetryHandOff(chef), handOffRetryMs);
+		}
+	}
+
+	private void chefRetryHandOff(ChefWorker chef) {
+		if (chef.tryHandOff()) {
+			chefFindWork(chef);
+		} else {
+			wheel.schedule(() -> chefRetryHandOff(chef), handOffRetryMs);
+		}
+	}
+
+	// ── 배달원 ──
+
+	public void drive(RiderWorker rider) {
+		wheel.schedule(() -> riderFindWork(rider), 0);
+	}
+
+	private void riderFindWork(RiderWorker rider) {
+		if (!rider.isRunning()) {
+			return;
+		}
+		long deliveryTime = rider.tryStartDelivery();
+		if (deliveryTime < 0) {
+			wheel.schedule(() -> riderFindWork(rider), idleRetryMs);
+		} else {
+			wheel.schedule(() -> riderDelivered(rider), deliveryTime);
+		}
+	}
+
+	private void riderDelivered(RiderWorker rider) {
+		long cooldown = rider.finishDelivery();
+		wheel.schedule(() -> riderFindWork(rider), cooldown);
+	}
+
+	private static ThreadFactory namedThreads(String prefix) {
+		AtomicInteger seq = new AtomicInteger();
+		return r -> {
+			Thread t = new Thread(r, prefix + seq.getAndIncrement());
+			t.setDaemon(true);
+			return t;
+		};
+	}
+}
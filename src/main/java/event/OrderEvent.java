@@ -0,0 +1,53 @@
+package event;
+
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 주문 생애주기 이벤트 (불변)
+ */
+public final class OrderEvent {
+
+	private final OrderEventType type;
+	private final Order order;
+	private final MenuItem menu;    // ITEM_STARTED/ITEM_COOKED의 메뉴, 그 외 null
+	private final int workerId;     // 요리사/배달원 번호, 접수 이벤트는 -1
+	private final long timestamp;
+
+	public OrderEvent(OrderEventType type, Order order, MenuItem menu, int workerId, long timestamp) {
+		this.type = type;
+		this.order = order;
+		this.menu = menu;
+		this.workerId = workerId;
+		this.timestamp = timestamp;
+	}
+
+	public OrderEventType getType() {
+		return type;
+	}
+
+	public Order getOrder() {
+		return order;
+	}
+
+	public int getOrderId() {
+		return order.getOrderId();
+	}
+
+	public MenuItem getMenu() {
+		return menu;
+	}
+
+	public int getWorkerId() {
+		return workerId;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "#" + order.getOrderId() + " " + type.getName() + (menu != null ? " (" + menu.getName() + ")" : "");
+	}
+}
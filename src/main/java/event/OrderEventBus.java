@@ -0,0 +1,157 @@
+package event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 주문 생애주기 이벤트 스트림 (프로세스 내 발행/구독, java.util.concurrent.Flow 기반)
+ *
+ * 접수 → 메뉴 조리 시작 → 메뉴 조리 완료 → 조리 완료 → 배달 출발 → 배달 완료 이벤트를 구독자들에게 비동기로 전달합니다.
+ * 구독자마다 크기가 제한된 버퍼가 있고, 구독자는 이벤트 전용 스레드 풀에서 각자 버퍼를 비웁니다.
+ *
+ * 발행은 블로킹하지 않습니다. 구독자의 버퍼가 가득 차 있으면 그 구독자에게 갈 새 이벤트만 버리고(drop)
+ * 구독자별 유실 수를 셉니다. 느린 구독자가 있어도 요리사·배달원 스레드는 기다리지 않으며,
+ * 다른 구독자의 전달에도 영향이 없습니다.
+ *
+ * 같은 구독자에게는 발행 순서대로 전달되지만, 서로 다른 스레드가 발행한 이벤트의 순서는
+ * 발행 시점 순서이므로 한 주문의 단계가 뒤바뀌어 보일 수 있습니다. (예: 요리사가 접수 이벤트보다 먼저 조리 완료를 발행)
+ *
+ * 이벤트를 하나도 잃으면 안 되는 소비자(주문 등록부 등)는 구독 대신 {@link #addListener}로 등록합니다.
+ * 리스너는 발행 스레드에서 바로 호출되므로 유실이 없는 대신 빠르게 반환해야 합니다.
+ */
+public class OrderEventBus implements AutoCloseable {
+
+	public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+	private final ExecutorService executor;
+	private final SubmissionPublisher<OrderEvent> publisher;
+	private final Map<Flow.Subscriber<? super OrderEvent>, LongAdder> drops = new ConcurrentHashMap<>();
+	private final LongAdder published = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final List<Consumer<OrderEvent>> listeners = new CopyOnWriteArrayList<>();
+
+	public OrderEventBus() {
+		this(DEFAULT_BUFFER_CAPACITY);
+	}
+
+	/**
+	 * @param bufferCapacity 구독자별 최대 버퍼 크기 (2의 거듭제곱으로 올림)
+	 */
+	public OrderEventBus(int bufferCapacity) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "OrderEvent-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+	}
+
+	/**
+	 * 구독자를 등록합니다. 등록 이후 발행된 이벤트부터 전달됩니다.
+	 */
+	public void subscribe(Flow.Subscriber<? super OrderEvent> subscriber) {
+		drops.put(subscriber, new LongAdder());
+		publisher.subscribe(subscriber);
+	}
+
+	/**
+	 * 발행 스레드에서 모든 이벤트를 바로 받을 동기 리스너를 등록합니다. (유실 없음, 빠르게 반환해야 함)
+	 */
+	public void addListener(Consumer<OrderEvent> listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * 동기 리스너에 전달한 뒤 모든 구독자의 버퍼에 넣습니다. (블로킹 없음, 버퍼가 가득 찬 구독자에게는 버림)
+	 */
+	public void publish(OrderEvent event) {
+		for (Consumer<OrderEvent> listener : listeners) {
+			listener.accept(event);
+		}
+		try {
+			publisher.offer(event, this::onDrop);
+			published.increment();
+		} catch (IllegalStateException e) {
+			// 이미 닫힌 스트림: 영업 종료 중 발행된 이벤트는 무시
+		}
+	}
+
+	// 구독자 버퍼가 가득 찬 경우: 재시도하지 않고 버림
+	private boolean onDrop(Flow.Subscriber<? super OrderEvent> subscriber, OrderEvent event) {
+		LongAdder count = drops.get(subscriber);
+		if (count != null) {
+			count.increment();
+		}
+		dropped.increment();
+		return false;
+	}
+
+	public void created(Order order) {
+		publish(new OrderEvent(OrderEventType.CREATED, order, null, -1, System.currentTimeMillis()));
+	}
+
+	public void itemStarted(Order order, MenuItem menu, int chefId) {
+		publish(new OrderEvent(OrderEventType.ITEM_STARTED, order, menu, chefId, System.currentTimeMillis()));
+	}
+
+	public void itemCooked(Order order, MenuItem menu, int chefId) {
+		publish(new OrderEvent(OrderEventType.ITEM_COOKED, order, menu, chefId, System.currentTimeMillis()));
+	}
+
+	public void ready(Order order, int chefId) {
+		publish(new OrderEvent(OrderEventType.READY, order, null, chefId, System.currentTimeMillis()));
+	}
+
+	public void pickedUp(Order order, int riderId) {
+		publish(new OrderEvent(OrderEventType.PICKED_UP, order, null, riderId, System.currentTimeMillis()));
+	}
+
+	public void delivered(Order order, int riderId) {
+		publish(new OrderEvent(OrderEventType.DELIVERED, order, null, riderId, System.currentTimeMillis()));
+	}
+
+	public long getPublishedCount() {
+		return published.sum();
+	}
+
+	/**
+	 * 모든 구독자에 걸쳐 버퍼가 가득 차 버려진 이벤트 수
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * 해당 구독자에게 전달되지 못하고 버려진 이벤트 수
+	 */
+	public long getDroppedCount(Flow.Subscriber<? super OrderEvent> subscriber) {
+		LongAdder count = drops.get(subscriber);
+		return count == null ? 0 : count.sum();
+	}
+
+	public int getSubscriberCount() {
+		return publisher.getNumberOfSubscribers();
+	}
+
+	/**
+	 * 구독자들에게 완료(onComplete)를 알리고 이벤트 스레드를 정리합니다. 이후 발행은 무시됩니다.
+	 */
+	@Override
+	public void close() {
+		publisher.close();
+		executor.shutdown();
+	}
+}
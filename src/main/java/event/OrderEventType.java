@@ -0,0 +1,23 @@
+package event;
+
+/**
+ * 주문 생애주기 단계 (선언 순서 = 진행 순서)
+ */
+public enum OrderEventType {
+	CREATED("접수"),
+	ITEM_STARTED("메뉴 조리 시작"),
+	ITEM_COOKED("메뉴 조리 완료"),
+	READY("조리 완료"),
+	PICKED_UP("배달 출발"),
+	DELIVERED("배달 완료");
+
+	private final String name;
+
+	OrderEventType(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,24 @@
+package inventory;
+
+/**
+ * 메뉴 레시피에 쓰이는 재료
+ */
+public enum Ingredient {
+	COFFEE_BEAN("원두"),
+	MILK("우유"),
+	VEGETABLE("채소"),
+	TOMATO("토마토"),
+	FLOUR("밀가루"),
+	CHEESE("치즈"),
+	POTATO("감자");
+
+	private final String name;
+
+	Ingredient(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
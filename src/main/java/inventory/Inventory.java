@@ -0,0 +1,127 @@
+package inventory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import config.RestaurantConfig;
+import model.MenuItem;
+
+/**
+ * 재료 재고
+ *
+ * 재료마다 {@link StripedStockCounter}를 두어 요리사들이 조리 시작 시 전역 락 없이 재료를 차감합니다.
+ * 레시피의 재료 중 하나라도 부족하면 이미 차감한 재료를 되돌려 메뉴 단위로 원자적으로 동작합니다.
+ * 재고는 {@link RestockProducer}가 주기적으로 채우며, 재고 부족으로 기다리는 요리사는 입고 시 깨어납니다.
+ */
+public class Inventory {
+
+	private static final int INGREDIENTS = Ingredient.values().length;
+
+	private final RestaurantConfig config;
+	private final StockCounter[] stock = new StockCounter[INGREDIENTS]; // Ingredient.ordinal() 인덱스
+	private final LongAdder[] stockouts = new LongAdder[INGREDIENTS];
+	private final LongAdder rejectedOrders = new LongAdder();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition restocked = lock.newCondition();
+
+	public Inventory(RestaurantConfig config) {
+		this.config = config;
+		for (int i = 0; i < INGREDIENTS; i++) {
+			stock[i] = new StripedStockCounter(config.getInventoryCapacity());
+			stockouts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 메뉴 1개 분량의 재료를 차감합니다.
+	 *
+	 * @return 모든 재료를 차감했으면 true, 하나라도 부족하면 아무것도 차감하지 않고 false
+	 */
+	public boolean tryConsume(MenuItem menu) {
+		Recipe recipe = Recipe.of(menu);
+		for (int i = 0; i < recipe.size(); i++) {
+			int ingredient = recipe.ingredient(i).ordinal();
+			if (!stock[ingredient].tryTake(recipe.amount(i))) {
+				// 앞서 차감한 재료 되돌리기
+				for (int j = 0; j < i; j++) {
+					stock[recipe.ingredient(j).ordinal()].add(recipe.amount(j));
+				}
+				stockouts[ingredient].increment();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 주문 접수용: 현재 재고로 주문의 모든 메뉴를 만들 수 있는지 확인합니다. (예약하지 않는 근사 확인)
+	 */
+	public boolean canMake(List<MenuItem> items) {
+		long[] need = new long[INGREDIENTS];
+		for (MenuItem menu : items) {
+			Recipe recipe = Recipe.of(menu);
+			for (int i = 0; i < recipe.size(); i++) {
+				need[recipe.ingredient(i).ordinal()] += recipe.amount(i);
+			}
+		}
+		for (int i = 0; i < INGREDIENTS; i++) {
+			if (need[i] > 0 && stock[i].available() < need[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 재고를 최대 보관량(inventory.capacity)을 넘지 않게 채우고, 재료를 기다리는 요리사를 깨웁니다.
+	 *
+	 * @return 실제 입고된 수량
+	 */
+	public long restock(Ingredient ingredient, long amount) {
+		StockCounter counter = stock[ingredient.ordinal()];
+		long added = Math.min(amount, config.getInventoryCapacity() - counter.available());
+		if (added <= 0) {
+			return 0;
+		}
+		counter.add(added);
+		lock.lock();
+		try {
+			restocked.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		return added;
+	}
+
+	/**
+	 * 재료가 부족한 스레드 모드 요리사용: 입고되거나 timeoutMs가 지날 때까지 대기
+	 */
+	public void awaitRestock(long timeoutMs) throws InterruptedException {
+		lock.lock();
+		try {
+			restocked.await(timeoutMs, TimeUnit.MILLISECONDS);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void orderRejected() {
+		rejectedOrders.increment();
+	}
+
+	public long getStock(Ingredient ingredient) {
+		return stock[ingredient.ordinal()].available();
+	}
+
+	public long getStockouts(Ingredient ingredient) {
+		return stockouts[ingredient.ordinal()].sum();
+	}
+
+	public long getRejectedOrders() {
+		return rejectedOrders.sum();
+	}
+}
@@ -0,0 +1,98 @@
+package inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.LongFunction;
+
+/**
+ * 재고 카운터 처리량 벤치마크: 칸 분할(striped) vs 단일 락(synchronized)
+ *
+ * 스레드 수별로 각 구현에 대해 모든 스레드가 동시에 1개씩 차감을 반복하고 초당 차감 횟수를 출력합니다.
+ * 측정 후 "남은 재고 + 차감한 수량 = 초기 재고"인지 확인하여 수량 보존도 검증합니다.
+ *
+ * 실행: java inventory.InventoryBenchmark [--threads 1,4,16,64] [--durationMs 2000] [--stock 1000000000]
+ */
+public class InventoryBenchmark {
+
+	public static void main(String[] args) throws InterruptedException {
+		String threadSpec = "1,4,16,64";
+		long durationMs = 2000;
+		long initialStock = Long.MAX_VALUE / 4;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "--threads":    threadSpec = args[i + 1]; break;
+				case "--durationMs": durationMs = Long.parseLong(args[i + 1]); break;
+				case "--stock":      initialStock = Long.parseLong(args[i + 1]); break;
+				default:
+					System.err.println("알 수 없는 인자: " + args[i]);
+			}
+		}
+
+		System.out.printf("CPU %d개, 측정 %,dms, 초기 재고 %,d%n%n", Runtime.getRuntime().availableProcessors(),
+				durationMs, initialStock);
+		System.out.println("스레드 |     synchronized (회/초) |          striped (회/초) | 배율");
+
+		for (String part : threadSpec.split(",")) {
+			int threads = Integer.parseInt(part.trim());
+			// JIT 워밍업
+			run(SynchronizedStockCounter::new, threads, durationMs / 4, initialStock);
+			run(StripedStockCounter::new, threads, durationMs / 4, initialStock);
+
+			double sync = run(SynchronizedStockCounter::new, threads, durationMs, initialStock);
+			double striped = run(StripedStockCounter::new, threads, durationMs, initialStock);
+			System.out.printf("%6d | %,24.0f | %,24.0f | %5.1fx%n", threads, sync, striped, striped / Math.max(1, sync));
+		}
+	}
+
+	// 초당 성공한 차감 횟수
+	private static double run(LongFunction<StockCounter> factory, int threads, long durationMs, long initialStock)
+			throws InterruptedException {
+		StockCounter counter = factory.apply(initialStock);
+		CountDownLatch start = new CountDownLatch(1);
+		long[] taken = new long[threads];
+		List<Thread> workers = new ArrayList<>();
+		long[] deadline = new long[1];
+
+		for (int t = 0; t < threads; t++) {
+			final int slot = t;
+			Thread worker = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				long end = deadline[0];
+				long count = 0;
+				// 시각 확인 비용을 줄이기 위해 1024회마다 확인
+				while ((count & 1023) != 0 || System.nanoTime() < end) {
+					if (counter.tryTake(1)) {
+						count++;
+					} else if (System.nanoTime() >= end) {
+						break; // 재고 소진
+					}
+				}
+				taken[slot] = count;
+			}, "bench-" + t);
+			workers.add(worker);
+			worker.start();
+		}
+
+		deadline[0] = System.nanoTime() + durationMs * 1_000_000;
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+
+		long total = 0;
+		for (long n : taken) {
+			total += n;
+		}
+		if (counter.available() + total != initialStock) {
+			throw new IllegalStateException("재고 수량 불일치: 남은 재고 " + counter.available() + " + 차감 " + total
+					+ " != 초기 " + initialStock);
+		}
+		return total * 1000.0 / durationMs;
+	}
+}
@@ -0,0 +1,51 @@
+package inventory;
+
+import model.MenuItem;
+
+/**
+ * 메뉴 1개를 만드는 데 필요한 재료와 수량
+ *
+ * 조리 시작마다 조회되므로 재료 목록을 배열로 보관하고 인덱스로 순회합니다. (조회 시 객체 생성 없음)
+ */
+public final class Recipe {
+
+	private static final Recipe[] RECIPES = new Recipe[MenuItem.values().length];
+	static {
+		define(MenuItem.COFFEE, new Ingredient[] { Ingredient.COFFEE_BEAN, Ingredient.MILK }, new int[] { 1, 1 });
+		define(MenuItem.SALAD, new Ingredient[] { Ingredient.VEGETABLE, Ingredient.TOMATO }, new int[] { 2, 1 });
+		define(MenuItem.PIZZA, new Ingredient[] { Ingredient.FLOUR, Ingredient.CHEESE, Ingredient.TOMATO },
+				new int[] { 1, 2, 1 });
+		define(MenuItem.PASTA, new Ingredient[] { Ingredient.FLOUR, Ingredient.TOMATO, Ingredient.CHEESE },
+				new int[] { 1, 1, 1 });
+		define(MenuItem.GNOCCHI, new Ingredient[] { Ingredient.POTATO, Ingredient.FLOUR, Ingredient.CHEESE },
+				new int[] { 2, 1, 1 });
+	}
+
+	private final Ingredient[] ingredients;
+	private final int[] amounts;
+
+	private Recipe(Ingredient[] ingredients, int[] amounts) {
+		this.ingredients = ingredients;
+		this.amounts = amounts;
+	}
+
+	private static void define(MenuItem menu, Ingredient[] ingredients, int[] amounts) {
+		RECIPES[menu.ordinal()] = new Recipe(ingredients, amounts);
+	}
+
+	public static Recipe of(MenuItem menu) {
+		return RECIPES[menu.ordinal()];
+	}
+
+	public int size() {
+		return ingredients.length;
+	}
+
+	public Ingredient ingredient(int i) {
+		return ingredients[i];
+	}
+
+	public int amount(int i) {
+		return amounts[i];
+	}
+}
@@ -0,0 +1,44 @@
+package inventory;
+
+import config.RestaurantConfig;
+
+/**
+ * 일정 간격으로 모든 재료를 입고하는 공급 스레드
+ */
+public class RestockProducer implements Runnable {
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RestockProducer.class);
+
+	private final Inventory inventory;
+	private final RestaurantConfig config;
+	private volatile boolean running = true;
+
+	public RestockProducer(Inventory inventory, RestaurantConfig config) {
+		this.inventory = inventory;
+		this.config = config;
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				Thread.sleep(config.getRestockIntervalMs());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			int amount = config.getRestockAmount();
+			for (Ingredient ingredient : Ingredient.values()) {
+				long added = inventory.restock(ingredient, amount);
+				if (added > 0) {
+					logger.debug("[재고] {} {}개 입고 (재고 {})", ingredient.getName(), added, inventory.getStock(ingredient));
+				}
+			}
+		}
+	}
+
+	public void stop() {
+		running = false;
+	}
+}
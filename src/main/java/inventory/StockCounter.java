@@ -0,0 +1,19 @@
+package inventory;
+
+/**
+ * 재료 하나의 재고 수량
+ */
+public interface StockCounter {
+
+	/**
+	 * 재고가 충분하면 amount만큼 차감합니다. 부족하면 아무것도 차감하지 않고 false를 반환합니다.
+	 */
+	boolean tryTake(int amount);
+
+	void add(long amount);
+
+	/**
+	 * 현재 재고 (동시 갱신 중에는 근사치)
+	 */
+	long available();
+}
@@ -0,0 +1,123 @@
+package inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 칸(stripe)으로 나눈 재고 카운터
+ *
+ * 재고를 칸마다 나누어 보관하고, 각 스레드는 자기 칸(스레드 ID 해시)에서 CAS로 차감합니다.
+ * 요리사들이 서로 다른 칸을 건드리므로 전역 락이나 단일 CAS 지점의 경합이 없습니다.
+ * 자기 칸이 부족하면 다른 칸에서 빌려오고(steal), 어느 한 칸으로도 부족하면 여러 칸에서 조금씩 모은 뒤
+ * 그래도 모자라면 되돌립니다. 전체 수량은 항상 보존되므로 재고가 음수가 되거나 사라지지 않습니다.
+ *
+ * 칸 사이의 거짓 공유(false sharing)를 피하기 위해 칸마다 캐시 라인(64바이트) 간격을 둡니다.
+ */
+public class StripedStockCounter implements StockCounter {
+
+	private static final int PAD = 8; // long 8개 = 64바이트
+
+	private final AtomicLongArray cells;
+	private final int mask;
+
+	public StripedStockCounter(long initialStock) {
+		this(initialStock, defaultStripes());
+	}
+
+	public StripedStockCounter(long initialStock, int stripes) {
+		int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1; // 2의 거듭제곱으로 올림
+		this.cells = new AtomicLongArray(size * PAD);
+		this.mask = size - 1;
+		add(initialStock);
+	}
+
+	private static int defaultStripes() {
+		return Math.min(64, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	@Override
+	public boolean tryTake(int amount) {
+		int home = homeStripe();
+		for (int i = 0; i <= mask; i++) {
+			if (takeFrom((home + i) & mask, amount)) {
+				return true;
+			}
+		}
+		return gather(home, amount);
+	}
+
+	// 한 칸에서 amount 전체를 차감
+	private boolean takeFrom(int stripe, int amount) {
+		int idx = stripe * PAD;
+		for (;;) {
+			long current = cells.get(idx);
+			if (current < amount) {
+				return false;
+			}
+			if (cells.compareAndSet(idx, current, current - amount)) {
+				return true;
+			}
+		}
+	}
+
+	// 재고가 여러 칸에 흩어져 한 칸만으로는 부족할 때: 칸마다 가능한 만큼 모으고, 모자라면 자기 칸에 되돌림
+	private boolean gather(int home, int amount) {
+		long need = amount;
+		for (int i = 0; i <= mask && need > 0; i++) {
+			int idx = ((home + i) & mask) * PAD;
+			for (;;) {
+				long current = cells.get(idx);
+				if (current <= 0) {
+					break;
+				}
+				long taken = Math.min(current, need);
+				if (cells.compareAndSet(idx, current, current - taken)) {
+					need -= taken;
+					break;
+				}
+			}
+		}
+		if (need == 0) {
+			return true;
+		}
+		long collected = amount - need;
+		if (collected > 0) {
+			cells.addAndGet(home * PAD, collected);
+		}
+		return false;
+	}
+
+	/**
+	 * 입고 수량을 모든 칸에 고르게 나누어 더합니다. (한 칸에 몰리면 모든 요리사가 그 칸에서 빌려가게 됨)
+	 */
+	@Override
+	public void add(long amount) {
+		int stripes = mask + 1;
+		long share = amount / stripes;
+		long remainder = amount % stripes;
+		for (int i = 0; i < stripes; i++) {
+			long delta = share + (i < remainder ? 1 : 0);
+			if (delta != 0) {
+				cells.addAndGet(i * PAD, delta);
+			}
+		}
+	}
+
+	@Override
+	public long available() {
+		long sum = 0;
+		for (int i = 0; i <= mask; i++) {
+			sum += cells.get(i * PAD);
+		}
+		return sum;
+	}
+
+	public int getStripes() {
+		return mask + 1;
+	}
+
+	// 스레드 ID를 섞어 칸 번호로 사용 (같은 스레드는 항상 같은 칸부터 시도)
+	private int homeStripe() {
+		long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+		return (int) (h >>> 32) & mask;
+	}
+}
@@ -0,0 +1,32 @@
+package inventory;
+
+/**
+ * 단일 락으로 보호하는 재고 카운터 (벤치마크 비교 기준)
+ */
+public class SynchronizedStockCounter implements StockCounter {
+
+	private long stock;
+
+	public SynchronizedStockCounter(long initialStock) {
+		this.stock = initialStock;
+	}
+
+	@Override
+	public synchronized boolean tryTake(int amount) {
+		if (stock < amount) {
+			return false;
+		}
+		stock -= amount;
+		return true;
+	}
+
+	@Override
+	public synchronized void add(long amount) {
+		stock += amount;
+	}
+
+	@Override
+	public synchronized long available() {
+		return stock;
+	}
+}
@@ -0,0 +1,69 @@
+package ipc;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import config.ConfigReloader;
+import config.RestaurantConfig;
+import core.DeliveryCenter;
+import core.DeliveryStats;
+import core.QueueManager;
+import ledger.SalesLedger;
+
+/**
+ * 별도 JVM으로 실행하는 배달 프로세스
+ *
+ * 주방 JVM({@code Main --deploy split})이 만든 링 파일에 붙어 완성 주문을 받아 배달합니다.
+ * 로그는 주방과 섞이지 않도록 delivery.log에 기록하고, 콘솔에는 1초마다 배달 현황을 출력합니다.
+ *
+ * 실행: java ipc.DeliveryProcess [--riderCount 5] [--ring delivery.ring] [--config restaurant.properties]
+ */
+public class DeliveryProcess {
+
+	public static void main(String[] args) throws Exception {
+		// 로거가 처음 초기화되기 전에 설정해야 하므로 가장 먼저 지정
+		if (System.getProperty("log.file") == null) {
+			System.setProperty("log.file", "delivery.log");
+		}
+
+		int riderCount = 5;
+		String ringPath = "delivery.ring";
+		String configPath = "restaurant.properties";
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "--riderCount": riderCount = Integer.parseInt(args[i + 1]); break;
+				case "--ring":       ringPath = args[i + 1]; break;
+				case "--config":     configPath = args[i + 1]; break;
+				default:
+					System.err.println("알 수 없는 인자: " + args[i]);
+			}
+		}
+
+		Path configFile = Paths.get(configPath);
+		RestaurantConfig config = RestaurantConfig.load(configFile);
+		Path ringFile = Paths.get(ringPath);
+		MappedOrderRing ring = MappedOrderRing.attach(ringFile, 60_000);
+		System.out.printf("[배달 프로세스] 링 연결: %s (%d슬롯), 배달원 %d명%n", ringPath, ring.getSlots(), riderCount);
+
+		// 배달 큐만 사용 (메뉴 큐는 주방 프로세스에 있음)
+		QueueManager queueManager = new QueueManager(config.getMenuQueueSize(), config.getDeliveryQueueSize());
+		SalesLedger ledger = new SalesLedger();
+		DeliveryCenter deliveryCenter = new DeliveryCenter(riderCount, queueManager, config, ledger);
+
+		deliveryCenter.startOperations();
+		new Thread(ledger, "SalesLedger").start();
+		RingReceiver receiver = new RingReceiver(ringFile, ring, queueManager.getDeliveryQueue());
+		new Thread(receiver, "RingReceiver").start();
+		new Thread(new ConfigReloader(configFile, config, queueManager), "ConfigReloader").start();
+
+		DeliveryStats stats = deliveryCenter.getStats();
+		while (true) {
+			Thread.sleep(1000);
+			ring = receiver.getRing();
+			System.out.printf("[배달 프로세스] 배달중 %d · 완료 %d · 배달 대기 %d/%d · 링 %d/%d · 최근 1분 매출 %,d원%n",
+					stats.getDelivering(), stats.getDelivered(), queueManager.getDeliveryQueue().size(),
+					queueManager.getDeliveryQueue().getCapacity(), ring.size(), ring.getSlots(),
+					ledger.getRevenueLastMinutes(1));
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package ipc;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 프로세스 간 주문 전달용 메모리 매핑 링 버퍼 (생산자 1 / 소비자 1)
+ *
+ * 주방 JVM이 완성된 주문을 기록하고 배달 JVM이 읽습니다. 두 프로세스가 같은 파일을 매핑하므로 주문은
+ * 직렬화 계층 없이 고정 크기 레코드로 매핑 영역에 직접 쓰고 직접 읽습니다.
+ *
+ * <pre>
+ * 헤더 (256바이트)
+ *   0   int  매직 넘버
+ *   4   int  슬롯 수 (2의 거듭제곱)
+ *   8   long 세대(epoch) 번호 (생산자가 링을 만들 때마다 새로 뽑는 난수)
+ *   64  long 생산자 커서 (다음에 쓸 순번, 생산자만 갱신)
+ *   128 long 소비자 커서 (다음에 읽을 순번, 소비자만 갱신)
+ * 레코드 (128바이트 × 슬롯 수)
+ *   0   int   주문 번호
+ *   4   int   메뉴 수
+ *   8   long  주문 생성 시각 (epoch ms)
+ *   16  long  링 기록 시각 (System.nanoTime, 전달 지연 측정용)
+ *   24  byte  메뉴 ordinal × 최대 16
+ *   40  short 주소 길이 (UTF-8 바이트)
+ *   42  byte  주소 × 최대 86
+ * </pre>
+ *
+ * 커서는 서로 다른 캐시 라인에 두어 거짓 공유를 피하고, 레코드를 다 쓴 뒤 release로 커서를 올리고
+ * 상대 커서는 acquire로 읽어 레코드 내용이 커서보다 먼저 보이도록 합니다.
+ * 링이 가득 차면 {@link #offer}가 false를 반환하며, 이것이 배달 쪽에서 주방 쪽으로 가는 백프레셔가 됩니다.
+ *
+ * 두 프로세스 모두 같은 인스턴스를 한 스레드에서만 사용해야 합니다. (생산자 스레드 1 / 소비자 스레드 1)
+ *
+ * 생산자(주방)가 다시 시작되면 기존 파일을 지우고 새 세대 번호로 새 파일을 만듭니다. 소비자가 붙어 있는 옛 파일은
+ * 그대로 남으므로 커서가 엉키지 않으며, 소비자는 {@link #isReplaced()}로 교체를 감지해 새 파일에 다시 붙어야 합니다.
+ * 지난 실행의 파일에 먼저 붙은 경우도 같은 방식으로 주방이 시작되는 순간 감지됩니다.
+ */
+public class MappedOrderRing implements AutoCloseable {
+
+	private static final int MAGIC = 0x54594352; // "TYCR"
+	private static final int HEADER_SIZE = 256;
+	private static final int SLOTS_OFFSET = 4;
+	private static final int EPOCH_OFFSET = 8;
+	private static final int PRODUCER_CURSOR = 64;
+	private static final int CONSUMER_CURSOR = 128;
+
+	public static final int RECORD_SIZE = 128;
+	public static final int MAX_ITEMS = 16;
+	private static final int ORDER_ID = 0;
+	private static final int ITEM_COUNT = 4;
+	private static final int TIMESTAMP = 8;
+	private static final int PUBLISHED_NANOS = 16;
+	private static final int ITEMS = 24;
+	private static final int ADDRESS_LEN = 40;
+	private static final int ADDRESS = 42;
+	private static final int MAX_ADDRESS_BYTES = RECORD_SIZE - ADDRESS;
+
+	private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+	private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+	private static final MenuItem[] MENUS = MenuItem.values();
+
+	private final Path file;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int slots;
+	private final int mask;
+	private final long epoch;
+
+	// 각 쪽이 로컬로 들고 있는 커서와, 상대 커서의 마지막 관측값 (매번 공유 캐시 라인을 읽지 않도록)
+	private long localCursor;
+	private long cachedOtherCursor;
+	private long lastPublishedNanos;
+
+	private MappedOrderRing(Path file, FileChannel channel, MappedByteBuffer buffer, int slots, long epoch) {
+		this.file = file;
+		this.channel = channel;
+		this.buffer = buffer;
+		this.slots = slots;
+		this.mask = slots - 1;
+		this.epoch = epoch;
+	}
+
+	/**
+	 * 생산자(주방)용: 링 파일을 새로 만듭니다. 기존 파일은 지우므로 옛 파일에 붙어 있던 소비자의 커서는 건드리지 않습니다.
+	 */
+	public static MappedOrderRing create(Path file, int requestedSlots) throws IOException {
+		int slots = requestedSlots <= 2 ? 2 : Integer.highestOneBit(requestedSlots - 1) << 1; // 2의 거듭제곱으로 올림
+		long epoch;
+		do {
+			epoch = ThreadLocalRandom.current().nextLong();
+		} while (epoch == 0);
+
+		Files.deleteIfExists(file);
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slots * RECORD_SIZE);
+		buffer.order(ByteOrder.nativeOrder());
+		buffer.putInt(SLOTS_OFFSET, slots);
+		buffer.putLong(EPOCH_OFFSET, epoch);
+		LONGS.setRelease(buffer, PRODUCER_CURSOR, 0L);
+		LONGS.setRelease(buffer, CONSUMER_CURSOR, 0L);
+		// 매직 넘버를 마지막에 기록하여 소비자가 초기화가 끝난 파일에만 붙도록 함
+		INTS.setRelease(buffer, 0, MAGIC);
+		return new MappedOrderRing(file, channel, buffer, slots, epoch);
+	}
+
+	/**
+	 * 소비자(배달)용: 생산자가 만든 링 파일에 붙습니다. 파일이 준비될 때까지 최대 timeoutMs 기다립니다.
+	 */
+	public static MappedOrderRing attach(Path file, long timeoutMs) throws IOException, InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMs;
+		while (!Files.isRegularFile(file) || Files.size(file) < HEADER_SIZE) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new IOException("링 파일이 준비되지 않았습니다: " + file);
+			}
+			Thread.sleep(50);
+		}
+
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+		header.order(ByteOrder.nativeOrder());
+		while ((int) INTS.getAcquire(header, 0) != MAGIC) {
+			if (System.currentTimeMillis() > deadline) {
+				channel.close();
+				throw new IOException("링 파일 형식이 올바르지 않습니다: " + file);
+			}
+			Thread.sleep(50);
+		}
+		int slots = header.getInt(SLOTS_OFFSET);
+		long epoch = header.getLong(EPOCH_OFFSET);
+
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slots * RECORD_SIZE);
+		buffer.order(ByteOrder.nativeOrder());
+		MappedOrderRing ring = new MappedOrderRing(file, channel, buffer, slots, epoch);
+		ring.localCursor = (long) LONGS.getAcquire(buffer, CONSUMER_CURSOR);
+		ring.cachedOtherCursor = ring.localCursor;
+		return ring;
+	}
+
+	// ── 생산자 ──
+
+	/**
+	 * 주문을 링에 기록합니다. (생산자 스레드 전용, 객체 생성 없음)
+	 *
+	 * @return 링이 가득 차 기록하지 못했으면 false
+	 */
+	public boolean offer(Order order) {
+		long head = localCursor;
+		if (head - cachedOtherCursor >= slots) {
+			cachedOtherCursor = (long) LONGS.getAcquire(buffer, CONSUMER_CURSOR);
+			if (head - cachedOtherCursor >= slots) {
+				return false;
+			}
+		}
+
+		int base = HEADER_SIZE + (int) (head & mask) * RECORD_SIZE;
+		List<MenuItem> items = order.getItems();
+		int itemCount = Math.min(items.size(), MAX_ITEMS);
+		buffer.putInt(base + ORDER_ID, order.getOrderId());
+		buffer.putInt(base + ITEM_COUNT, itemCount);
+		buffer.putLong(base + TIMESTAMP, order.getTimestamp());
+		for (int i = 0; i < itemCount; i++) {
+			buffer.put(base + ITEMS + i, (byte) items.get(i).ordinal());
+		}
+		int addressLen = putAddress(base, order.getAddress());
+		buffer.putShort(base + ADDRESS_LEN, (short) addressLen);
+		buffer.putLong(base + PUBLISHED_NANOS, System.nanoTime());
+
+		localCursor = head + 1;
+		LONGS.setRelease(buffer, PRODUCER_CURSOR, head + 1);
+		return true;
+	}
+
+	// 주소를 UTF-8로 레코드에 직접 기록 (최대 길이를 넘으면 문자 단위로 자름)
+	private int putAddress(int base, String address) {
+		int pos = base + ADDRESS;
+		int limit = pos + MAX_ADDRESS_BYTES;
+		for (int i = 0; i < address.length(); i++) {
+			char c = address.charAt(i);
+			if (c < 0x80) {
+				if (pos + 1 > limit) break;
+				buffer.put(pos++, (byte) c);
+			} else if (c < 0x800) {
+				if (pos + 2 > limit) break;
+				buffer.put(pos++, (byte) (0xC0 | (c >> 6)));
+				buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+			} else if (!Character.isSurrogate(c)) {
+				if (pos + 3 > limit) break;
+				buffer.put(pos++, (byte) (0xE0 | (c >> 12)));
+				buffer.put(pos++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put(pos++, (byte) (0x80 | (c & 0x3F)));
+			} else {
+				if (pos + 1 > limit) break;
+				buffer.put(pos++, (byte) '?'); // 주소에 쓰이지 않는 보조 문자는 대체
+			}
+		}
+		return pos - (base + ADDRESS);
+	}
+
+	// ── 소비자 ──
+
+	/**
+	 * 다음 주문을 읽습니다. (소비자 스레드 전용)
+	 *
+	 * @return 링이 비어 있으면 null
+	 * @throws IllegalStateException 생산자 커서가 소비자 커서보다 뒤에 있는 경우 (다른 생산자가 같은 파일을 초기화함)
+	 */
+	public Order poll() {
+		long tail = localCursor;
+		if (tail >= cachedOtherCursor) {
+			cachedOtherCursor = (long) LONGS.getAcquire(buffer, PRODUCER_CURSOR);
+			if (tail >= cachedOtherCursor) {
+				if (tail > cachedOtherCursor) {
+					throw new IllegalStateException("링이 초기화되었습니다 (생산자 커서 " + cachedOtherCursor
+							+ " < 소비자 커서 " + tail + "): " + file);
+				}
+				return null;
+			}
+		}
+
+		int base = HEADER_SIZE + (int) (tail & mask) * RECORD_SIZE;
+		int orderId = buffer.getInt(base + ORDER_ID);
+		int itemCount = buffer.getInt(base + ITEM_COUNT);
+		long timestamp = buffer.getLong(base + TIMESTAMP);
+		lastPublishedNanos = buffer.getLong(base + PUBLISHED_NANOS);
+		List<MenuItem> items = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			items.add(MENUS[buffer.get(base + ITEMS + i)]);
+		}
+		byte[] addressBytes = new byte[buffer.getShort(base + ADDRESS_LEN)];
+		buffer.get(base + ADDRESS, addressBytes);
+
+		localCursor = tail + 1;
+		LONGS.setRelease(buffer, CONSUMER_CURSOR, tail + 1);
+		return new Order(orderId, items, new String(addressBytes, StandardCharsets.UTF_8), timestamp);
+	}
+
+	/**
+	 * 마지막으로 {@link #poll()}한 레코드가 링에 기록된 시각 (System.nanoTime 기준)
+	 *
+	 * 같은 호스트의 JVM들은 같은 단조 시계를 공유하므로(리눅스 CLOCK_MONOTONIC) 소비 시각과 빼서
+	 * 프로세스 간 전달 지연을 구할 수 있습니다.
+	 */
+	public long getLastPublishedNanos() {
+		return lastPublishedNanos;
+	}
+
+	/**
+	 * 링에 쌓여 아직 소비되지 않은 주문 수 (양쪽 어디서든 조회 가능한 근사치)
+	 */
+	public int size() {
+		long produced = (long) LONGS.getAcquire(buffer, PRODUCER_CURSOR);
+		long consumed = (long) LONGS.getAcquire(buffer, CONSUMER_CURSOR);
+		return (int) Math.max(0, produced - consumed);
+	}
+
+	public int getSlots() {
+		return slots;
+	}
+
+	public long getEpoch() {
+		return epoch;
+	}
+
+	/**
+	 * 생산자가 다시 시작되어 이 링이 더 이상 쓰이지 않는지 확인합니다. (소비자용, 파일을 열어 읽으므로 한가할 때만 호출)
+	 *
+	 * @return 같은 경로의 파일이 다른 세대로 바뀌었거나 매핑된 헤더의 세대 번호가 달라졌으면 true
+	 *         (파일이 지워지고 아직 새로 만들어지지 않았으면 false)
+	 */
+	public boolean isReplaced() throws IOException {
+		if ((int) INTS.getAcquire(buffer, 0) != MAGIC || (long) LONGS.getAcquire(buffer, EPOCH_OFFSET) != epoch) {
+			return true;
+		}
+		ByteBuffer header = ByteBuffer.allocate(EPOCH_OFFSET + Long.BYTES).order(ByteOrder.nativeOrder());
+		try (FileChannel current = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (header.hasRemaining() && current.read(header, header.position()) > 0) {
+				// 헤더 앞부분만 읽음
+			}
+		} catch (NoSuchFileException e) {
+			return false;
+		}
+		// 새 파일이 아직 초기화 중이면 매직 넘버가 없으므로 판단을 미룸
+		return !header.hasRemaining() && header.getInt(0) == MAGIC && header.getLong(EPOCH_OFFSET) != epoch;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
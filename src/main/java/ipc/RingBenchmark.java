@@ -0,0 +1,141 @@
+package ipc;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 프로세스 간 링 전달 벤치마크
+ *
+ * 이 프로세스가 생산자가 되어 링 파일을 만들고, 같은 클래스패스로 자식 JVM을 소비자로 띄워 주문 레코드를 넘깁니다.
+ * <ul>
+ * <li>처리량 단계: 최대 속도로 기록 (링이 가득 차면 소비자를 기다림 = 백프레셔)</li>
+ * <li>지연 단계: 일정 속도로 기록하여 링 기록 → 다른 프로세스 수신까지의 지연 분포 측정</li>
+ * </ul>
+ * 지연은 두 프로세스가 공유하는 단조 시계(System.nanoTime, 리눅스 CLOCK_MONOTONIC) 기준입니다.
+ *
+ * 실행: java ipc.RingBenchmark [--count 2000000] [--latencyCount 200000] [--ratePerSec 100000] [--slots 1024]
+ */
+public class RingBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int count = 2_000_000;
+		int latencyCount = 200_000;
+		int ratePerSec = 100_000;
+		int slots = 1024;
+		String consumerRing = null;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "--count":        count = Integer.parseInt(args[i + 1]); break;
+				case "--latencyCount": latencyCount = Integer.parseInt(args[i + 1]); break;
+				case "--ratePerSec":   ratePerSec = Integer.parseInt(args[i + 1]); break;
+				case "--slots":        slots = Integer.parseInt(args[i + 1]); break;
+				case "--consumer":     consumerRing = args[i + 1]; break;
+				default:
+					System.err.println("알 수 없는 인자: " + args[i]);
+			}
+		}
+
+		if (consumerRing != null) {
+			consume(Paths.get(consumerRing), count);
+			return;
+		}
+
+		System.out.printf("== 처리량 (%,d건, 링 %d슬롯, 최대 속도) ==%n", count, slots);
+		produce(count, slots, 0);
+		System.out.printf("%n== 지연 (%,d건, 초당 %,d건) ==%n", latencyCount, ratePerSec);
+		produce(latencyCount, slots, ratePerSec);
+	}
+
+	// 생산자: 자식 소비자 JVM을 띄우고 count건을 기록
+	private static void produce(int count, int slots, int ratePerSec) throws Exception {
+		Path file = Files.createTempFile("tycoon-ring", ".ring");
+		try (MappedOrderRing ring = MappedOrderRing.create(file, slots)) {
+			String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+			Process consumer = new ProcessBuilder(java, "-Dfile.encoding=" + System.getProperty("file.encoding"),
+					"-cp", System.getProperty("java.class.path"),
+					RingBenchmark.class.getName(), "--consumer", file.toString(), "--count", String.valueOf(count))
+					.inheritIO().start();
+
+			Order order = new Order(1, Arrays.asList(MenuItem.PIZZA, MenuItem.PASTA, MenuItem.COFFEE), "강남구 역삼동");
+			long intervalNanos = ratePerSec > 0 ? 1_000_000_000L / ratePerSec : 0;
+			long fullSpins = 0;
+
+			// 소비자 JVM 기동 시간은 측정에서 제외: 첫 레코드가 소비될 때까지 대기
+			while (!ring.offer(order)) {
+				Thread.onSpinWait();
+			}
+			while (ring.size() > 0) {
+				Thread.sleep(1);
+			}
+
+			long started = System.nanoTime();
+			long next = started;
+			for (int i = 1; i < count; i++) {
+				if (intervalNanos > 0) {
+					next += intervalNanos;
+					while (System.nanoTime() < next) {
+						Thread.onSpinWait();
+					}
+				}
+				while (!ring.offer(order)) {
+					fullSpins++; // 링이 가득 참: 소비자가 비울 때까지 대기
+					Thread.onSpinWait();
+				}
+			}
+			long elapsed = System.nanoTime() - started;
+			System.out.printf("[생산자] %,d건 기록 %,dms → %,.0f건/초, 링 가득 참 대기 %,d회%n", count - 1,
+					elapsed / 1_000_000, (count - 1) * 1e9 / elapsed, fullSpins);
+
+			consumer.waitFor();
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	// 소비자 (자식 JVM): count건을 읽으며 건별 전달 지연을 기록
+	private static void consume(Path file, int count) throws Exception {
+		long[] latencies = new long[count];
+		try (MappedOrderRing ring = MappedOrderRing.attach(file, 30_000)) {
+			long firstAt = 0;
+			for (int i = 0; i < count; i++) {
+				Order order;
+				while ((order = ring.poll()) == null) {
+					Thread.onSpinWait();
+				}
+				long now = System.nanoTime();
+				latencies[i] = now - ring.getLastPublishedNanos();
+				if (i == 1) {
+					firstAt = now;
+				}
+				if (order.getItems().isEmpty()) {
+					throw new IllegalStateException("레코드 손상: 주문#" + order.getOrderId());
+				}
+			}
+			long elapsed = System.nanoTime() - firstAt;
+
+			// 첫 레코드는 기동 대기 중의 값이므로 제외
+			long[] measured = Arrays.copyOfRange(latencies, 1, count);
+			Arrays.sort(measured);
+			System.out.printf("[소비자] %,d건 수신 → %,.0f건/초%n", measured.length,
+					measured.length > 1 ? (measured.length - 1) * 1e9 / Math.max(1, elapsed) : 0.0);
+			System.out.printf("[소비자] 전달 지연 p50 %,.1fµs · p99 %,.1fµs · p99.9 %,.1fµs · 최대 %,.1fµs%n",
+					percentile(measured, 50.0) / 1000.0, percentile(measured, 99.0) / 1000.0,
+					percentile(measured, 99.9) / 1000.0, measured[measured.length - 1] / 1000.0);
+		}
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+	}
+}
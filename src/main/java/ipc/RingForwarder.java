@@ -0,0 +1,54 @@
+package ipc;
+
+import java.util.concurrent.locks.LockSupport;
+
+import model.Order;
+import model.OrderQueue;
+
+/**
+ * 주방 JVM: 로컬 배달 큐의 완성 주문을 링으로 넘기는 스레드 (링의 유일한 생산자)
+ *
+ * 링이 가득 차면 꺼낸 주문을 쥔 채 잠시 쉬었다가 다시 시도합니다. 그동안 로컬 배달 큐가 차면
+ * 요리사의 push가 대기하므로, 배달 프로세스의 정체가 기존 백프레셔 경로로 주방까지 전달됩니다.
+ */
+public class RingForwarder implements Runnable {
+
+	private static final long MIN_BACKOFF_NANOS = 50_000;     // 50µs
+	private static final long MAX_BACKOFF_NANOS = 5_000_000;  // 5ms
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RingForwarder.class);
+
+	private final OrderQueue deliveryQueue;
+	private final MappedOrderRing ring;
+	private volatile boolean running = true;
+
+	public RingForwarder(OrderQueue deliveryQueue, MappedOrderRing ring) {
+		this.deliveryQueue = deliveryQueue;
+		this.ring = ring;
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				Order order = deliveryQueue.pop();
+				long backoff = MIN_BACKOFF_NANOS;
+				while (!ring.offer(order)) {
+					LockSupport.parkNanos(backoff);
+					backoff = Math.min(MAX_BACKOFF_NANOS, backoff * 2);
+					if (Thread.interrupted()) {
+						throw new InterruptedException();
+					}
+				}
+				logger.debug("[링] 주문#{} → 배달 프로세스", order.getOrderId());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	public void stop() {
+		running = false;
+	}
+}
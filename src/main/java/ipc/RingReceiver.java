@@ -0,0 +1,101 @@
+package ipc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+import model.Order;
+import model.OrderQueue;
+
+/**
+ * 배달 JVM: 링에서 주문을 읽어 로컬 배달 큐에 넣는 스레드 (링의 유일한 소비자)
+ *
+ * 로컬 배달 큐가 가득 차면 push에서 대기하며 링을 더 읽지 않으므로, 링이 차서 주방 쪽 생산자가 멈춥니다.
+ *
+ * 링이 비어 있는 동안 주기적으로 주방 프로세스가 링 파일을 새로 만들었는지 확인하고, 바뀌었으면 새 파일에 다시 붙습니다.
+ * (주방 재시작, 또는 지난 실행의 파일에 먼저 붙은 경우)
+ */
+public class RingReceiver implements Runnable {
+
+	private static final long MIN_BACKOFF_NANOS = 50_000;     // 50µs
+	private static final long MAX_BACKOFF_NANOS = 1_000_000;  // 1ms
+	private static final long REPLACE_CHECK_MS = 1000;        // 링이 빌 때 파일 교체 확인 간격
+	private static final long ATTACH_TIMEOUT_MS = 60_000;
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RingReceiver.class);
+
+	private final Path file;
+	private final OrderQueue deliveryQueue;
+	private volatile MappedOrderRing ring;
+	private volatile boolean running = true;
+
+	public RingReceiver(Path file, MappedOrderRing ring, OrderQueue deliveryQueue) {
+		this.file = file;
+		this.ring = ring;
+		this.deliveryQueue = deliveryQueue;
+	}
+
+	@Override
+	public void run() {
+		long backoff = MIN_BACKOFF_NANOS;
+		long lastCheck = System.currentTimeMillis();
+		while (running) {
+			try {
+				Order order;
+				try {
+					order = ring.poll();
+				} catch (IllegalStateException e) {
+					logger.warn("[링] {}", e.getMessage());
+					reattach();
+					continue;
+				}
+				if (order == null) {
+					long now = System.currentTimeMillis();
+					if (now - lastCheck >= REPLACE_CHECK_MS) {
+						lastCheck = now;
+						if (ring.isReplaced()) {
+							logger.warn("[링] 주방 프로세스가 링을 새로 만들었습니다: {}", file);
+							reattach();
+							continue;
+						}
+					}
+					// 비어 있으면 점점 길게 쉼 (주문이 들어오면 다시 짧게)
+					LockSupport.parkNanos(backoff);
+					backoff = Math.min(MAX_BACKOFF_NANOS, backoff * 2);
+					if (Thread.interrupted()) {
+						throw new InterruptedException();
+					}
+					continue;
+				}
+				backoff = MIN_BACKOFF_NANOS;
+				logger.debug("[링] 주문#{} 수신 ({}µs)", order.getOrderId(),
+						(System.nanoTime() - ring.getLastPublishedNanos()) / 1000);
+				deliveryQueue.push(order);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (IOException e) {
+				logger.error("[링] 수신 중단: {}", e.getMessage());
+				break;
+			}
+		}
+	}
+
+	// 옛 링을 닫고 같은 경로의 새 링에 붙음 (새 파일이 준비될 때까지 대기)
+	private void reattach() throws IOException, InterruptedException {
+		ring.close();
+		ring = MappedOrderRing.attach(file, ATTACH_TIMEOUT_MS);
+		logger.info("[링] 다시 연결: {} ({}슬롯)", file, ring.getSlots());
+	}
+
+	/**
+	 * 현재 읽고 있는 링 (다시 연결되면 바뀜)
+	 */
+	public MappedOrderRing getRing() {
+		return ring;
+	}
+
+	public void stop() {
+		running = false;
+	}
+}
@@ -0,0 +1,26 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 메뉴 하나의 조리 구간
+ */
+@Name("tycoon.Cook")
+@Label("Cook")
+@Category({ "Restaurant Tycoon", "Kitchen" })
+@StackTrace(false)
+public class CookEvent extends Event {
+
+	@Label("Chef Id")
+	public int chefId;
+
+	@Label("Order Id")
+	public int orderId;
+
+	@Label("Menu")
+	public String menu;
+}
@@ -0,0 +1,25 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 완성된 주문을 배달 큐로 넘기는 구간. 배달 큐가 가득 차 요리사가 대기한 시간이 지속 시간으로 나타납니다.
+ */
+@Name("tycoon.DeliveryHandoff")
+@Label("Delivery Handoff")
+@Category({ "Restaurant Tycoon", "Kitchen" })
+@Description("완성 주문의 배달 큐 이관")
+@StackTrace(false)
+public class DeliveryHandoffEvent extends Event {
+
+	@Label("Chef Id")
+	public int chefId;
+
+	@Label("Order Id")
+	public int orderId;
+}
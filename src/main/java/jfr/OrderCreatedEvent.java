@@ -0,0 +1,28 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 생성 및 메뉴 큐 분배(Fork). 지속 시간에는 메뉴 큐가 가득 차 대기한 시간이 포함됩니다.
+ */
+@Name("tycoon.OrderCreated")
+@Label("Order Created")
+@Category({ "Restaurant Tycoon", "Order" })
+@Description("주문 생성 및 메뉴 큐 분배")
+@StackTrace(false)
+public class OrderCreatedEvent extends Event {
+
+	@Label("Order Id")
+	public int orderId;
+
+	@Label("Item Count")
+	public int itemCount;
+
+	@Label("Menus")
+	public String menus;
+}
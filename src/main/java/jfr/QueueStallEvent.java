@@ -0,0 +1,26 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * OrderQueue.push/pop이 실제로 블로킹된 구간. 즉시 처리된 호출은 기록하지 않습니다.
+ */
+@Name("tycoon.QueueStall")
+@Label("Queue Stall")
+@Category({ "Restaurant Tycoon", "Queue" })
+@Description("큐가 가득 차거나(push) 비어 있어(pop) 스레드가 대기한 구간")
+public class QueueStallEvent extends Event {
+
+	@Label("Queue")
+	public String queueName;
+
+	@Label("Operation")
+	public String operation;
+
+	@Label("Capacity")
+	public int capacity;
+}
@@ -0,0 +1,26 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 배달원 한 명의 배달 구간 (출발 → 완료)
+ */
+@Name("tycoon.RiderTrip")
+@Label("Rider Trip")
+@Category({ "Restaurant Tycoon", "Delivery" })
+@StackTrace(false)
+public class RiderTripEvent extends Event {
+
+	@Label("Rider Id")
+	public int riderId;
+
+	@Label("Order Id")
+	public int orderId;
+
+	@Label("Address")
+	public String address;
+}
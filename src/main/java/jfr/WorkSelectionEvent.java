@@ -0,0 +1,32 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요리사의 작업 선택. 지속 시간에는 전역 메뉴 큐 락 대기 시간이 포함됩니다.
+ */
+@Name("tycoon.WorkSelection")
+@Label("Work Selection")
+@Category({ "Restaurant Tycoon", "Kitchen" })
+@Description("요리사의 작업 선택 (긴급 처리 / 주문 번호순)")
+@StackTrace(false)
+public class WorkSelectionEvent extends Event {
+
+	@Label("Chef Id")
+	public int chefId;
+
+	@Label("Order Id")
+	public int orderId;
+
+	@Label("Menu")
+	public String menu;
+
+	@Label("Policy")
+	@Description("URGENT: 큐 포화 긴급 처리, EARLIEST: 주문 번호순")
+	public String policy;
+}
@@ -0,0 +1,40 @@
+package ledger;
+
+/**
+ * 매출 집계용 배달 지역 (주소의 구 단위)
+ */
+public enum District {
+	GANGNAM("강남구"),
+	SEOCHO("서초구"),
+	SONGPA("송파구"),
+	MAPO("마포구"),
+	SEONGDONG("성동구"),
+	OTHER("기타");
+
+	// values()는 호출마다 배열을 복사하므로 캐시
+	private static final District[] VALUES = values();
+
+	private final String name;
+
+	District(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 주소의 앞부분으로 지역을 찾습니다. (객체 생성 없음)
+	 */
+	public static District of(String address) {
+		if (address != null) {
+			for (int i = 0; i < VALUES.length - 1; i++) {
+				if (address.startsWith(VALUES[i].name)) {
+					return VALUES[i];
+				}
+			}
+		}
+		return OTHER;
+	}
+}
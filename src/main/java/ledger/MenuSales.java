@@ -0,0 +1,31 @@
+package ledger;
+
+import model.MenuItem;
+
+/**
+ * 조회 구간 동안의 메뉴별 판매 실적 (인기 메뉴 조회 결과)
+ */
+public class MenuSales {
+
+	private final MenuItem menu;
+	private final long quantity;
+	private final long revenue;
+
+	public MenuSales(MenuItem menu, long quantity, long revenue) {
+		this.menu = menu;
+		this.quantity = quantity;
+		this.revenue = revenue;
+	}
+
+	public MenuItem getMenu() {
+		return menu;
+	}
+
+	public long getQuantity() {
+		return quantity;
+	}
+
+	public long getRevenue() {
+		return revenue;
+	}
+}
@@ -0,0 +1,241 @@
+package ledger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 매출 장부
+ *
+ * 배달 완료 시 배달원 스레드가 자기 전용 누적기(스레드별 단일 작성자)에 메뉴 × 지역별 판매량과 매출을 더하고,
+ * 장부 스레드가 1초마다 누적기들의 증가분을 모아 분 단위(최근 60분)와 시간 단위(최근 24시간) 링 버킷에 반영합니다.
+ *
+ * <ul>
+ * <li>기록 경로: 락·CAS 없이 lazySet으로 누적하며, 스레드별 첫 기록 이후에는 객체를 생성하지 않습니다.</li>
+ * <li>조회 경로: 버킷만 읽으므로 O(버킷 수 × 메뉴 × 지역)이며 배달원을 멈추지 않습니다.</li>
+ * </ul>
+ * 증가분은 반영 시점의 분/시간 버킷에 들어가므로 버킷 경계에서 최대 반영 주기(1초)만큼 오차가 있습니다.
+ */
+public class SalesLedger implements Runnable {
+
+	private static final long FLUSH_INTERVAL_MS = 1000;
+	private static final int MENUS = MenuItem.values().length;
+	private static final int DISTRICTS = District.values().length;
+	private static final int CELLS = MENUS * DISTRICTS; // menu.ordinal() * DISTRICTS + district.ordinal()
+
+	private final List<Accumulator> accumulators = new CopyOnWriteArrayList<>();
+	private final ThreadLocal<Accumulator> local = ThreadLocal.withInitial(this::register);
+	private final BucketRing minutes = new BucketRing(60, 60_000L);
+	private final BucketRing hours = new BucketRing(24, 3_600_000L);
+	private volatile boolean running = true;
+
+	/**
+	 * 배달 완료된 주문의 메뉴들을 판매로 기록합니다. (배달원 스레드에서 호출, 객체 생성 없음)
+	 */
+	public void record(Order order) {
+		Accumulator acc = local.get();
+		int district = District.of(order.getAddress()).ordinal();
+		List<MenuItem> items = order.getItems();
+		for (int i = 0; i < items.size(); i++) {
+			MenuItem menu = items.get(i);
+			acc.add(menu.ordinal() * DISTRICTS + district, menu.getPrice());
+		}
+	}
+
+	private Accumulator register() {
+		Accumulator acc = new Accumulator();
+		accumulators.add(acc);
+		return acc;
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				Thread.sleep(FLUSH_INTERVAL_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			flush(System.currentTimeMillis());
+		}
+	}
+
+	public void stop() {
+		running = false;
+	}
+
+	/**
+	 * 누적기들의 마지막 반영 이후 증가분을 now가 속한 분/시간 버킷에 더합니다.
+	 */
+	public synchronized void flush(long now) {
+		for (Accumulator acc : accumulators) {
+			for (int c = 0; c < CELLS; c++) {
+				long revenue = acc.revenue.get(c);
+				long quantity = acc.quantity.get(c);
+				long revenueDelta = revenue - acc.flushedRevenue[c];
+				long quantityDelta = quantity - acc.flushedQuantity[c];
+				if (revenueDelta != 0 || quantityDelta != 0) {
+					minutes.add(now, c, revenueDelta, quantityDelta);
+					hours.add(now, c, revenueDelta, quantityDelta);
+					acc.flushedRevenue[c] = revenue;
+					acc.flushedQuantity[c] = quantity;
+				}
+			}
+		}
+	}
+
+	// ── 조회 ──
+
+	/**
+	 * 현재 분을 포함한 최근 n분(최대 60)의 매출
+	 */
+	public long getRevenueLastMinutes(int n) {
+		return total(minutes, n);
+	}
+
+	/**
+	 * 현재 시간을 포함한 최근 n시간(최대 24)의 매출
+	 */
+	public long getRevenueLastHours(int n) {
+		return total(hours, n);
+	}
+
+	/**
+	 * 최근 n분 동안의 분당 평균 매출
+	 */
+	public double getRevenuePerMinute(int n) {
+		return (double) total(minutes, n) / Math.max(1, Math.min(n, minutes.slots));
+	}
+
+	public List<MenuSales> getTopSellersLastMinutes(int n, int limit) {
+		return topSellers(minutes, n, limit);
+	}
+
+	public List<MenuSales> getTopSellersLastHours(int n, int limit) {
+		return topSellers(hours, n, limit);
+	}
+
+	/**
+	 * 최근 n분의 지역별 매출 (District.ordinal() 인덱스)
+	 */
+	public long[] getRevenueByDistrictLastMinutes(int n) {
+		long[] revenue = new long[CELLS];
+		minutes.collect(System.currentTimeMillis(), n, revenue, null);
+		long[] byDistrict = new long[DISTRICTS];
+		for (int c = 0; c < CELLS; c++) {
+			byDistrict[c % DISTRICTS] += revenue[c];
+		}
+		return byDistrict;
+	}
+
+	private long total(BucketRing ring, int n) {
+		long[] revenue = new long[CELLS];
+		ring.collect(System.currentTimeMillis(), n, revenue, null);
+		long sum = 0;
+		for (long r : revenue) {
+			sum += r;
+		}
+		return sum;
+	}
+
+	// 판매량 내림차순 상위 limit개 메뉴
+	private List<MenuSales> topSellers(BucketRing ring, int n, int limit) {
+		long[] revenue = new long[CELLS];
+		long[] quantity = new long[CELLS];
+		ring.collect(System.currentTimeMillis(), n, revenue, quantity);
+
+		MenuItem[] menus = MenuItem.values();
+		List<MenuSales> sales = new ArrayList<>(MENUS);
+		for (int m = 0; m < MENUS; m++) {
+			long r = 0;
+			long q = 0;
+			for (int d = 0; d < DISTRICTS; d++) {
+				r += revenue[m * DISTRICTS + d];
+				q += quantity[m * DISTRICTS + d];
+			}
+			if (q > 0) {
+				sales.add(new MenuSales(menus[m], q, r));
+			}
+		}
+		sales.sort((a, b) -> Long.compare(b.getQuantity(), a.getQuantity()));
+		return sales.size() > limit ? new ArrayList<>(sales.subList(0, limit)) : sales;
+	}
+
+	/**
+	 * 스레드 하나만 기록하는 누적기. 값은 계속 증가만 하며, 장부 스레드가 이전 반영값과의 차이만 가져갑니다.
+	 */
+	private static final class Accumulator {
+		final AtomicLongArray revenue = new AtomicLongArray(CELLS);
+		final AtomicLongArray quantity = new AtomicLongArray(CELLS);
+		// 장부 스레드 전용 (flush는 synchronized)
+		final long[] flushedRevenue = new long[CELLS];
+		final long[] flushedQuantity = new long[CELLS];
+
+		// 단일 작성자이므로 CAS 없이 읽고 lazySet으로 게시
+		void add(int cell, int price) {
+			revenue.lazySet(cell, revenue.get(cell) + price);
+			quantity.lazySet(cell, quantity.get(cell) + 1);
+		}
+	}
+
+	/**
+	 * 고정 길이 시간 버킷 링. 슬롯마다 담당 구간 번호(epoch)를 두어, 새 구간이 시작되면 재사용 전에 비웁니다.
+	 * 쓰기는 장부 스레드만 하고, 조회는 epoch가 맞는 슬롯만 더합니다.
+	 */
+	private static final class BucketRing {
+		final int slots;
+		final long spanMs;
+		final AtomicLongArray epochs;
+		final AtomicLongArray revenue;
+		final AtomicLongArray quantity;
+
+		BucketRing(int slots, long spanMs) {
+			this.slots = slots;
+			this.spanMs = spanMs;
+			this.epochs = new AtomicLongArray(slots);
+			this.revenue = new AtomicLongArray(slots * CELLS);
+			this.quantity = new AtomicLongArray(slots * CELLS);
+			for (int s = 0; s < slots; s++) {
+				epochs.set(s, -1);
+			}
+		}
+
+		void add(long now, int cell, long revenueDelta, long quantityDelta) {
+			long epoch = now / spanMs;
+			int slot = (int) (epoch % slots);
+			if (epochs.get(slot) != epoch) {
+				for (int c = 0; c < CELLS; c++) {
+					revenue.set(slot * CELLS + c, 0);
+					quantity.set(slot * CELLS + c, 0);
+				}
+				epochs.set(slot, epoch);
+			}
+			revenue.addAndGet(slot * CELLS + cell, revenueDelta);
+			quantity.addAndGet(slot * CELLS + cell, quantityDelta);
+		}
+
+		// 최근 n개 구간의 칸별 합계를 더함 (quantityOut은 null 가능)
+		void collect(long now, int n, long[] revenueOut, long[] quantityOut) {
+			long current = now / spanMs;
+			int count = Math.min(n, slots);
+			for (int k = 0; k < count; k++) {
+				long epoch = current - k;
+				int slot = (int) (epoch % slots);
+				if (epochs.get(slot) != epoch) {
+					continue; // 해당 구간에 기록 없음
+				}
+				for (int c = 0; c < CELLS; c++) {
+					revenueOut[c] += revenue.get(slot * CELLS + c);
+					if (quantityOut != null) {
+						quantityOut[c] += quantity.get(slot * CELLS + c);
+					}
+				}
+			}
+		}
+	}
+}
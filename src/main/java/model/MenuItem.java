@@ -7,18 +7,20 @@ public enum MenuItem {
 //	PASTA("파스타", 9000), 
 //	GNOCCHI("뇨끼", 10000); 
 	
-	COFFEE("커피", 1000), 
-	SALAD("샐러드", 1000), 
-	PIZZA("피자", 1000), 
-	PASTA("파스타", 1000), 
-	GNOCCHI("뇨끼", 1000); 
+	COFFEE("커피", 1000, 4500), 
+	SALAD("샐러드", 1000, 9000), 
+	PIZZA("피자", 1000, 18000), 
+	PASTA("파스타", 1000, 14000), 
+	GNOCCHI("뇨끼", 1000, 16000); 
 
 	private final String name;
 	private final int cookTime; // 밀리초(ms) 단위
+	private final int price; // 원 단위
 
-	MenuItem(String name, int cookTime) {
+	MenuItem(String name, int cookTime, int price) {
 		this.name = name;
 		this.cookTime = cookTime;
+		this.price = price;
 	}
 
 	public String getName() {
@@ -28,4 +30,8 @@ public enum MenuItem {
 	public int getCookTime() {
 		return cookTime;
 	}
+
+	public int getPrice() {
+		return price;
+	}
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package model;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Order {
 	private final int orderId;
@@ -11,14 +13,34 @@ public class Order {
 
 	// 동시성 제어를 위한 원자적 카운터
 	private final AtomicInteger completedCount = new AtomicInteger(0);
+	private final AtomicInteger startedCount = new AtomicInteger(0);
 	private final int totalItems;
 
+	// 메뉴별 주문 수량 / 조리 완료 수량 (MenuItem.ordinal() 인덱스, 누락·중복 조리 검증용)
+	private final int[] orderedPerMenu = new int[MenuItem.values().length];
+	private final AtomicIntegerArray cookedPerMenu = new AtomicIntegerArray(MenuItem.values().length);
+
+	// 첫 메뉴 / 마지막 메뉴 조리 완료 시각 (완성 편차 측정용)
+	// 첫 완료 시각은 카운트 증가 전에 CAS로 기록하여, 마지막 메뉴를 끝낸 스레드가 항상 볼 수 있도록 함
+	private final AtomicLong firstItemDoneAt = new AtomicLong();
+	private volatile long lastItemDoneAt;
+
 	public Order(int orderId, List<MenuItem> items, String address) {
+		this(orderId, items, address, System.currentTimeMillis());
+	}
+
+	/**
+	 * 다른 프로세스에서 넘어온 주문 복원용 (원래 주문 생성 시각 유지)
+	 */
+	public Order(int orderId, List<MenuItem> items, String address, long timestamp) {
 		this.orderId = orderId;
 		this.items = items;
 		this.address = address;
 		this.totalItems = items.size();
-		this.timestamp = System.currentTimeMillis();
+		this.timestamp = timestamp;
+		for (MenuItem item : items) {
+			orderedPerMenu[item.ordinal()]++;
+		}
 	}
 
 	/**
@@ -26,10 +48,45 @@ public class Order {
 	 * 
 	 * @return true이면 모든 메뉴 조리 완료 (배달 가능 상태)
 	 */
-	public boolean addItemComplete() {
+	public boolean addItemComplete(MenuItem menu) {
+		cookedPerMenu.incrementAndGet(menu.ordinal());
+
+		long now = System.currentTimeMillis();
+		firstItemDoneAt.compareAndSet(0, now);
+
 		// 카운트를 1 올리고, 그 값이 전체 아이템 수와 같은지 확인
+		// (증가 결과가 정확히 totalItems인 스레드 하나만 배달 큐로 넘김)
 		int current = completedCount.incrementAndGet();
-		return current == totalItems;
+		if (current == totalItems) {
+			lastItemDoneAt = now;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 요리사가 이 주문의 메뉴 하나를 집어 들 때마다 호출함
+	 *
+	 * @return 아직 아무 요리사도 시작하지 않은 메뉴 수
+	 */
+	public int markItemStarted() {
+		return totalItems - startedCount.incrementAndGet();
+	}
+
+	public boolean hasUnstartedItems() {
+		return startedCount.get() < totalItems;
+	}
+
+	/**
+	 * 첫 메뉴 완료 → 마지막 메뉴 완료까지 걸린 시간(ms), 아직 완성 전이면 -1
+	 */
+	public long getCompletionSpreadMs() {
+		long last = lastItemDoneAt;
+		long first = firstItemDoneAt.get();
+		if (last == 0 || first == 0) {
+			return -1;
+		}
+		return Math.max(0, last - first);
 	}
 
 	// 대시보드 표시를 위한 게이지 계산 (0~100%)
@@ -54,7 +111,31 @@ public class Order {
 		return totalItems;
 	}
 
+	public long getTimestamp() {
+		return timestamp;
+	}
+
 	public int getCompletedCount() {
 		return completedCount.get();
 	}
+
+	public int getOrderedCount(MenuItem menu) {
+		return orderedPerMenu[menu.ordinal()];
+	}
+
+	public int getCookedCount(MenuItem menu) {
+		return cookedPerMenu.get(menu.ordinal());
+	}
+
+	/**
+	 * 모든 메뉴가 주문 수량만큼 정확히 조리되었는지 (누락·중복 없음)
+	 */
+	public boolean isCookedExactly() {
+		for (int i = 0; i < orderedPerMenu.length; i++) {
+			if (cookedPerMenu.get(i) != orderedPerMenu[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
\ No newline at end of file
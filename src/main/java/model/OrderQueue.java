@@ -1,39 +1,172 @@
 package model;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import jfr.QueueStallEvent;
+
+/**
+ * 용량 변경이 가능한 블로킹 큐
+ *
+ * LinkedBlockingQueue와 같은 put/take 의미(가득 차면 생산자 대기, 비어 있으면 소비자 대기)를
+ * 제공하되, 실행 중 {@link #setCapacity(int)}로 용량을 바꿀 수 있습니다.
+ * 용량을 현재 대기 수보다 작게 줄여도 기존 주문은 유지되며, 대기 수가 용량 아래로 내려갈 때까지
+ * 신규 투입만 대기합니다.
+ */
 public class OrderQueue {
 	private final String queueName;
-	private final BlockingQueue<Order> queue;
+	private final ArrayDeque<Order> queue = new ArrayDeque<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private volatile int capacity;
+	private volatile int size; // 대시보드 등 락 없이 읽는 용도
 
 	public OrderQueue(String queueName, int size) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("queue size must be positive: " + size);
+		}
 		this.queueName = queueName;
-		this.queue = new LinkedBlockingQueue<>(size);
+		this.capacity = size;
 	}
 
 	public void push(Order order) throws InterruptedException {
-		queue.put(order);
+		lock.lockInterruptibly();
+		try {
+			if (queue.size() >= capacity) {
+				QueueStallEvent stall = new QueueStallEvent();
+				stall.begin();
+				while (queue.size() >= capacity) {
+					notFull.await(); // 큐가 가득 차면 생산자가 여기서 대기함
+				}
+				commitStall(stall, "push");
+			}
+			enqueue(order);
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	public Order pop() throws InterruptedException {
-		return queue.take(); // 작업이 없으면 스레드가 여기서 대기함
+		lock.lockInterruptibly();
+		try {
+			if (queue.isEmpty()) {
+				QueueStallEvent stall = new QueueStallEvent();
+				stall.begin();
+				while (queue.isEmpty()) {
+					notEmpty.await(); // 작업이 없으면 스레드가 여기서 대기함
+				}
+				commitStall(stall, "pop");
+			}
+			return dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean offer(Order order) {
+		lock.lock();
+		try {
+			if (queue.size() >= capacity) {
+				return false; // non-blocking, 가득 차 있으면 false
+			}
+			enqueue(order);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Order poll() {
+		lock.lock();
+		try {
+			return queue.isEmpty() ? null : dequeue(); // non-blocking, 없으면 null
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 큐 중간에 있는 특정 주문 하나를 꺼냅니다. (동시 조리 스케줄링용)
+	 *
+	 * @return 큐에 있어 꺼냈으면 true
+	 */
+	public boolean remove(Order order) {
+		lock.lock();
+		try {
+			if (!queue.removeFirstOccurrence(order)) {
+				return false;
+			}
+			size = queue.size();
+			notFull.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 큐 용량을 변경합니다. 대기 중인 주문은 그대로 유지됩니다.
+	 */
+	public void setCapacity(int newCapacity) {
+		if (newCapacity <= 0) {
+			throw new IllegalArgumentException("queue size must be positive: " + newCapacity);
+		}
+		lock.lock();
+		try {
+			capacity = newCapacity;
+			notFull.signalAll(); // 늘어난 용량만큼 대기 중인 생산자를 깨움
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getCapacity() {
+		return capacity;
 	}
-	
-    public Order poll() {
-        return queue.poll();  // non-blocking, 없으면 null
-    }
 
 	public int size() {
-		return queue.size();
+		return size;
 	}
 
 	public String getQueueName() {
 		return queueName;
 	}
-	
+
 	public Order peek() {
-	    return queue.peek();  // 꺼내지 않고 맨 앞 확인
+		lock.lock();
+		try {
+			return queue.peekFirst();  // 꺼내지 않고 맨 앞 확인
+		} finally {
+			lock.unlock();
+		}
 	}
-	
+
+	// JFR 기록이 꺼져 있으면 필드 설정 없이 반환
+	private void commitStall(QueueStallEvent stall, String operation) {
+		stall.end();
+		if (stall.shouldCommit()) {
+			stall.queueName = queueName;
+			stall.operation = operation;
+			stall.capacity = capacity;
+			stall.commit();
+		}
+	}
+
+	// lock 보유 상태에서만 호출
+	private void enqueue(Order order) {
+		queue.addLast(order);
+		size = queue.size();
+		notEmpty.signal();
+	}
+
+	// lock 보유 상태에서만 호출
+	private Order dequeue() {
+		Order order = queue.pollFirst();
+		size = queue.size();
+		notFull.signal();
+		return order;
+	}
+
 }
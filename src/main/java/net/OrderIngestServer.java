@@ -0,0 +1,453 @@
+package net;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import core.QueueManager;
+import event.OrderEventBus;
+import model.MenuItem;
+import model.Order;
+import registry.ItemStatus;
+import registry.OrderRegistry;
+import registry.OrderStatus;
+
+/**
+ * 외부 부하 도구용 주문 접수 서버 (셀렉터 기반 NIO, localhost 전용)
+ *
+ * 프로토콜 (UTF-8, 줄 단위, 빈 줄로 끝나는 프레임):
+ * <pre>
+ *   요청 프레임: 아래 줄 여러 개 + 빈 줄
+ *     MENU[,MENU...][|주소]\n          주문      예) PIZZA,COFFEE|강남구 역삼동
+ *     STATUS 주문번호\n                 주문 조회  예) STATUS 123
+ *     \n                                프레임 끝
+ *
+ *   응답: 프레임마다 한 묶음, 프레임을 보낸 순서대로
+ *     ERR 사유\n                        형식 오류 줄마다 (해당 줄만 버림)
+ *     STATUS 123 COOKING PIZZA:COOKED,COFFEE:WAITING readyIn=1200 deliveredIn=23200 rider=-1\n
+ *                                        조회 줄마다 (남은 시간은 ms, 이미 지난 단계는 0,
+ *                                        모르는 주문이면 ERR unknown order: 123)
+ *     OK n\n                            프레임의 유효한 주문 n건이 모두 메뉴 큐에 들어간 뒤 (프레임당 정확히 한 번, 묶음의 마지막 줄)
+ * </pre>
+ * 응답 개수와 순서는 TCP가 데이터를 어떻게 나누어 전달하는지와 무관하게 클라이언트가 보낸 프레임으로만 정해집니다.
+ * 빈 줄이 오기 전에도 이미 받은 주문은 메뉴 큐에 투입하므로 프레임 크기에 제한은 없습니다.
+ *
+ * 백프레셔: 메뉴 큐가 가득 차면 셀렉터 스레드는 블로킹하지 않고 남은 주문을 연결별 대기열에 보관한 뒤
+ * 해당 연결의 읽기(OP_READ)를 멈춥니다. 클라이언트의 TCP 송신 버퍼가 차면서 자연히 전송이 늦춰지고,
+ * 대기열이 비면 다시 읽기를 재개합니다.
+ *
+ * 주문은 메뉴 큐 투입을 시작할 때 접수 이벤트를 발행합니다. 투입을 시작한 주문은 연결이 끊겨도 나머지 메뉴까지
+ * 마저 투입하고(일부 메뉴만 주방에 들어가 영원히 완성되지 않는 주문 방지), 투입을 시작하지 않은 주문은 버립니다.
+ */
+public class OrderIngestServer implements Runnable {
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_PENDING_OUTPUT = 64 * 1024;
+	private static final long RETRY_MS = 10; // 큐가 가득 찬 연결의 재시도 간격
+	private static final String DEFAULT_ADDRESS = "외부 주문";
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(OrderIngestServer.class);
+
+	private final int port;
+	private final QueueManager queueManager;
+	private final OrderEventBus eventBus; // null이면 주문 이벤트 발행 안 함
+	private final OrderRegistry registry; // null이면 주문 조회 불가
+	private final Set<Connection> blocked = new HashSet<>();
+	// 연결이 끊겼지만 메뉴 큐 투입을 이미 시작한 주문 (셀렉터 스레드만 접근)
+	private final ArrayDeque<PendingOrder> orphans = new ArrayDeque<>();
+	private volatile boolean running = true;
+	private Selector selector;
+
+	public OrderIngestServer(int port, QueueManager queueManager) {
+		this(port, queueManager, null);
+	}
+
+	/**
+	 * @param eventBus 접수된 외부 주문을 알릴 주문 이벤트 스트림 (null이면 발행 안 함)
+	 */
+	public OrderIngestServer(int port, QueueManager queueManager, OrderEventBus eventBus) {
+		this(port, queueManager, eventBus, null);
+	}
+
+	/**
+	 * @param registry STATUS 조회에 답할 주문 등록부 (null이면 조회 요청에 오류 응답)
+	 */
+	public OrderIngestServer(int port, QueueManager queueManager, OrderEventBus eventBus, OrderRegistry registry) {
+		this.port = port;
+		this.queueManager = queueManager;
+		this.eventBus = eventBus;
+		this.registry = registry;
+	}
+
+	@Override
+	public void run() {
+		try (Selector sel = Selector.open(); ServerSocketChannel server = ServerSocketChannel.open()) {
+			this.selector = sel;
+			server.bind(new InetSocketAddress("127.0.0.1", port));
+			server.configureBlocking(false);
+			server.register(sel, SelectionKey.OP_ACCEPT);
+			logger.info("[접수 서버] 127.0.0.1:{} 에서 주문 접수 시작", port);
+
+			while (running) {
+				sel.select(blocked.isEmpty() && orphans.isEmpty() ? 0 : RETRY_MS);
+
+				Iterator<SelectionKey> keys = sel.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					try {
+						handle(key, server);
+					} catch (IOException e) {
+						close(key);
+					}
+				}
+
+				retryBlocked();
+			}
+		} catch (IOException e) {
+			logger.error("[접수 서버] 종료: {}", e.getMessage());
+		}
+	}
+
+	public void stop() {
+		running = false;
+		Selector sel = selector;
+		if (sel != null) {
+			sel.wakeup();
+		}
+	}
+
+	private void handle(SelectionKey key, ServerSocketChannel server) throws IOException {
+		if (!key.isValid()) {
+			return;
+		}
+		if (key.isAcceptable()) {
+			SocketChannel client = server.accept();
+			if (client != null) {
+				client.configureBlocking(false);
+				SelectionKey clientKey = client.register(selector, SelectionKey.OP_READ);
+				clientKey.attach(new Connection(clientKey));
+				logger.info("[접수 서버] 클라이언트 연결: {}", client.getRemoteAddress());
+			}
+			return;
+		}
+
+		Connection conn = (Connection) key.attachment();
+		if (key.isWritable()) {
+			conn.flush();
+		}
+		if (key.isValid() && key.isReadable()) {
+			conn.read();
+		}
+	}
+
+	// 큐가 가득 차서 멈춰 둔 연결들의 대기 주문과 끊긴 연결의 투입 중이던 주문을 다시 투입
+	private void retryBlocked() {
+		while (!orphans.isEmpty() && offerRemaining(orphans.peekFirst())) {
+			orphans.pollFirst();
+		}
+		if (blocked.isEmpty()) {
+			return;
+		}
+		for (Connection conn : new ArrayList<>(blocked)) {
+			try {
+				conn.drain();
+			} catch (IOException e) {
+				close(conn.key);
+			}
+		}
+	}
+
+	private void close(SelectionKey key) {
+		Object attachment = key.attachment();
+		if (attachment instanceof Connection) {
+			Connection conn = (Connection) attachment;
+			blocked.remove(conn);
+			// 투입을 시작한 주문은 끝까지 투입, 나머지 대기 주문은 접수하지 않은 것으로 버림
+			for (Frame frame : conn.frames) {
+				for (PendingOrder p : frame.orders) {
+					if (p.announced) {
+						orphans.add(p);
+					}
+				}
+				frame.orders.clear();
+			}
+			conn.frames.clear();
+		}
+		key.cancel();
+		try {
+			key.channel().close();
+		} catch (IOException ignored) {
+			// 이미 닫힌 연결
+		}
+	}
+
+	/**
+	 * 주문의 남은 메뉴를 non-blocking으로 메뉴 큐에 투입합니다. 처음 투입할 때 접수 이벤트를 발행합니다.
+	 *
+	 * @return 모든 메뉴를 투입했으면 true, 메뉴 큐가 가득 차 남은 메뉴가 있으면 false
+	 */
+	private boolean offerRemaining(PendingOrder p) {
+		// 메뉴 큐 투입 전에 발행해야 요리사의 조리 완료 이벤트보다 앞섬
+		if (!p.announced) {
+			p.announced = true;
+			if (eventBus != null) {
+				eventBus.created(p.order);
+			}
+		}
+		List<MenuItem> items = p.order.getItems();
+		while (p.nextItem < items.size()) {
+			if (!queueManager.getMenuQueue(items.get(p.nextItem)).offer(p.order)) {
+				return false;
+			}
+			p.nextItem++;
+		}
+		return true;
+	}
+
+	/**
+	 * 메뉴 큐 투입이 끝나지 않은 주문 (분배가 중간에 막힌 경우 다음 메뉴부터 이어서 투입)
+	 */
+	private static final class PendingOrder {
+		final Order order;
+		int nextItem;
+		boolean announced; // 접수 이벤트를 발행하고 투입을 시작했는지
+
+		PendingOrder(Order order) {
+			this.order = order;
+		}
+	}
+
+	/**
+	 * 클라이언트가 보낸 프레임 하나 (빈 줄로 끝나는 줄 묶음)
+	 */
+	private static final class Frame {
+		final ArrayDeque<PendingOrder> orders = new ArrayDeque<>(); // 메뉴 큐 투입을 기다리는 주문
+		final StringBuilder replies = new StringBuilder();          // OK 앞에 보낼 ERR/STATUS 응답
+		int accepted;
+		boolean complete; // 프레임 끝(빈 줄)을 받았는지
+
+		void addReply(String message) {
+			replies.append(message).append('\n');
+		}
+	}
+
+	/**
+	 * 연결별 상태: 읽기 버퍼, 프레임 대기열, 응답 버퍼
+	 */
+	private final class Connection {
+		private final SelectionKey key;
+		private final SocketChannel channel;
+		private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		private ByteBuffer out = ByteBuffer.allocate(1024);
+		// 응답을 보내지 않은 프레임 (받은 순서대로, 마지막 것은 아직 받는 중일 수 있음)
+		private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+		private Frame current; // 받는 중인 프레임, 없으면 null
+		private boolean discarding; // 너무 긴 줄의 나머지를 다음 줄바꿈까지 버리는 중
+
+		Connection(SelectionKey key) {
+			this.key = key;
+			this.channel = (SocketChannel) key.channel();
+		}
+
+		void read() throws IOException {
+			int n = channel.read(in);
+			if (n < 0) {
+				logger.info("[접수 서버] 클라이언트 연결 종료");
+				close(key);
+				return;
+			}
+			in.flip();
+			parseLines();
+			in.compact();
+			if (!in.hasRemaining()) {
+				if (!discarding) {
+					currentFrame().addReply("ERR line too long");
+					discarding = true;
+				}
+				in.clear();
+			}
+			drain();
+		}
+
+		// 읽기 버퍼의 완전한 줄을 모두 현재 프레임에 반영 (불완전한 마지막 줄은 남겨둠)
+		private void parseLines() {
+			int lineStart = in.position();
+			for (int i = in.position(); i < in.limit(); i++) {
+				if (in.get(i) != '\n') {
+					continue;
+				}
+				if (discarding) {
+					// 너무 긴 줄의 끝: 여기까지 버리고 다음 줄부터 정상 처리
+					discarding = false;
+					lineStart = i + 1;
+					continue;
+				}
+				int end = (i > lineStart && in.get(i - 1) == '\r') ? i - 1 : i;
+				byte[] bytes = new byte[end - lineStart];
+				for (int j = 0; j < bytes.length; j++) {
+					bytes[j] = in.get(lineStart + j);
+				}
+				String line = new String(bytes, StandardCharsets.UTF_8).trim();
+				if (line.isEmpty()) {
+					currentFrame().complete = true;
+					current = null;
+				} else if (line.startsWith("STATUS")) {
+					currentFrame().addReply(status(line.substring("STATUS".length()).trim()));
+				} else {
+					Order order = parseOrder(line);
+					if (order != null) {
+						currentFrame().orders.add(new PendingOrder(order));
+					}
+				}
+				lineStart = i + 1;
+			}
+			in.position(discarding ? in.limit() : lineStart);
+		}
+
+		private Frame currentFrame() {
+			if (current == null) {
+				current = new Frame();
+				frames.add(current);
+			}
+			return current;
+		}
+
+		// 조회 응답 줄 (조회 시점의 상태, 응답은 프레임 순서대로 나감)
+		private String status(String idText) {
+			if (registry == null) {
+				return "ERR status unavailable";
+			}
+			int orderId;
+			try {
+				orderId = Integer.parseInt(idText);
+			} catch (NumberFormatException e) {
+				return "ERR bad order id: " + idText;
+			}
+			OrderStatus status = registry.lookup(orderId);
+			if (status == null) {
+				return "ERR unknown order: " + orderId;
+			}
+
+			long now = System.currentTimeMillis();
+			StringBuilder sb = new StringBuilder("STATUS ").append(orderId).append(' ').append(status.getStage().name()).append(' ');
+			List<MenuItem> items = status.getItems();
+			List<ItemStatus> itemStatuses = status.getItemStatuses();
+			for (int i = 0; i < items.size(); i++) {
+				if (i > 0) sb.append(',');
+				sb.append(items.get(i).name()).append(':').append(itemStatuses.get(i).name());
+			}
+			sb.append(" readyIn=").append(Math.max(0, status.getReadyAt() - now))
+				.append(" deliveredIn=").append(Math.max(0, status.getDeliveredAt() - now))
+				.append(" rider=").append(status.getRiderId());
+			return sb.toString();
+		}
+
+		private Order parseOrder(String line) {
+			int bar = line.indexOf('|');
+			String menuPart = bar < 0 ? line : line.substring(0, bar);
+			String address = bar < 0 ? DEFAULT_ADDRESS : line.substring(bar + 1).trim();
+
+			List<MenuItem> items = new ArrayList<>();
+			for (String name : menuPart.split(",")) {
+				try {
+					items.add(MenuItem.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+				} catch (IllegalArgumentException e) {
+					currentFrame().addReply("ERR unknown menu: " + name.trim());
+					return null;
+				}
+			}
+			return new Order(queueManager.nextOrderId(), items, address.isEmpty() ? DEFAULT_ADDRESS : address);
+		}
+
+		// 프레임 순서대로 주문을 non-blocking으로 메뉴 큐에 투입하고, 끝까지 받아 모두 투입한 프레임에 응답
+		// 메뉴 큐가 막히면 읽기를 멈추고 재시도 목록에 등록
+		void drain() throws IOException {
+			while (!frames.isEmpty()) {
+				Frame frame = frames.peekFirst();
+				while (!frame.orders.isEmpty()) {
+					PendingOrder p = frame.orders.peekFirst();
+					if (!offerRemaining(p)) {
+						pauseReading();
+						return;
+					}
+					frame.orders.pollFirst();
+					frame.accepted++;
+					if (logger.isDebugEnabled()) {
+						logger.debug("신규 주문 접수: #{} (메뉴: {}) [외부]", p.order.getOrderId(),
+								p.order.getItems().stream().map(MenuItem::getName).collect(Collectors.joining(", ")));
+					}
+				}
+				if (!frame.complete) {
+					break; // 프레임 끝을 아직 받지 못함: 응답은 빈 줄을 받은 뒤에
+				}
+				frames.pollFirst();
+				send(frame.replies.append("OK ").append(frame.accepted).append('\n').toString());
+			}
+			resumeReading();
+		}
+
+		private void pauseReading() {
+			if (blocked.add(this)) {
+				key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+			}
+		}
+
+		private void resumeReading() {
+			blocked.remove(this);
+			if (!key.isValid()) {
+				return;
+			}
+			// 응답을 읽지 않는 클라이언트는 응답 버퍼가 비워질 때까지 읽기 중지
+			int ops = key.interestOps();
+			ops = out.position() > MAX_PENDING_OUTPUT ? ops & ~SelectionKey.OP_READ : ops | SelectionKey.OP_READ;
+			key.interestOps(ops);
+		}
+
+		private void send(String text) {
+			byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+			if (out.remaining() < bytes.length) {
+				ByteBuffer bigger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + bytes.length));
+				out.flip();
+				bigger.put(out);
+				out = bigger;
+			}
+			out.put(bytes);
+			try {
+				flush();
+			} catch (IOException e) {
+				close(key);
+			}
+		}
+
+		void flush() throws IOException {
+			out.flip();
+			channel.write(out);
+			out.compact();
+			if (!key.isValid()) {
+				return;
+			}
+			if (out.position() > 0) {
+				key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+			} else {
+				key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+				if (!blocked.contains(this)) {
+					key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package net;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import model.MenuItem;
+
+/**
+ * 주문 접수 서버용 간단한 부하 클라이언트
+ *
+ * 무작위 주문을 batch 건씩 한 프레임(빈 줄로 끝남)으로 전송하고, 프레임마다 오는 서버의 OK 응답으로
+ * 접수된 건수를 세어 처리율을 출력합니다.
+ * 실행: java net.OrderLoadClient [--port 7070] [--orders 10000] [--batch 100]
+ */
+public class OrderLoadClient {
+
+	public static void main(String[] args) throws IOException {
+		int port = 7070;
+		int orders = 10_000;
+		int batch = 100;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if ("--port".equals(args[i])) {
+				port = Integer.parseInt(args[i + 1]);
+			} else if ("--orders".equals(args[i])) {
+				orders = Integer.parseInt(args[i + 1]);
+			} else if ("--batch".equals(args[i])) {
+				batch = Integer.parseInt(args[i + 1]);
+			}
+		}
+
+		Random random = new Random();
+		MenuItem[] menus = MenuItem.values();
+		String[] addresses = {"강남구 역삼동", "서초구 서초동", "송파구 잠실동", "마포구 망원동", "성동구 성수동"};
+
+		try (Socket socket = new Socket("127.0.0.1", port)) {
+			OutputStream out = socket.getOutputStream();
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+			long started = System.nanoTime();
+			int sent = 0;
+			int accepted = 0;
+			while (sent < orders) {
+				StringBuilder frame = new StringBuilder();
+				int n = Math.min(batch, orders - sent);
+				for (int i = 0; i < n; i++) {
+					int itemCount = random.nextInt(3) + 1;
+					for (int j = 0; j < itemCount; j++) {
+						if (j > 0) frame.append(',');
+						frame.append(menus[random.nextInt(menus.length)].name());
+					}
+					frame.append('|').append(addresses[random.nextInt(addresses.length)]).append('\n');
+				}
+				frame.append('\n'); // 프레임 끝
+				out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+				out.flush();
+				sent += n;
+
+				// 프레임 응답 수신: OK 줄이 프레임 응답의 끝 (서버 백프레셔로 큐가 빌 때까지 여기서 대기)
+				while (true) {
+					String reply = in.readLine();
+					if (reply == null) {
+						throw new IOException("서버 연결 종료");
+					}
+					if (reply.startsWith("OK ")) {
+						accepted += Integer.parseInt(reply.substring(3).trim());
+						break;
+					}
+					System.err.println(reply);
+				}
+			}
+
+			double seconds = (System.nanoTime() - started) / 1e9;
+			System.out.printf("주문 %,d건 접수, %.2f초, %,.0f건/초%n", accepted, seconds, accepted / seconds);
+		}
+	}
+}
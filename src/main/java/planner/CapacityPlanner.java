@@ -0,0 +1,187 @@
+package planner;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import config.RestaurantConfig;
+
+/**
+ * What-if 용량 계획기
+ *
+ * 요리사 수 × 배달원 수 × 큐 크기의 격자(grid)를 만들고, 각 구성을 격리된 식당 인스턴스로 가속 실행하여
+ * 목표 p99 주문 소요 시간과 처리량을 만족하는 가장 저렴한 인력 구성을 찾습니다.
+ * 구성들은 Fork/Join 풀에서 병렬로 실행됩니다.
+ *
+ * 범위 인자는 "2,4,6" 목록 또는 "2:8:2"(시작:끝:간격) 형식입니다.
+ * 실행: java planner.CapacityPlanner --chefs 2:8:2 --riders 10:60:10 --targetP99Ms 60000
+ */
+public class CapacityPlanner {
+
+	public static void main(String[] args) throws Exception {
+		String chefs = "2:8:2";
+		String riders = "10:60:10";
+		String menuQueues = "10";
+		String deliveryQueues = "5";
+		String configPath = "restaurant.properties";
+		int speedup = 50;
+		long simSeconds = 600;
+		long targetP99Ms = 60_000;
+		double targetThroughput = -1; // 주문/분, 기본값은 주문 생성률의 95%
+		double chefCost = 1.0;
+		double riderCost = 1.0;
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		Integer orderIntervalMs = null;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			String value = args[i + 1];
+			switch (args[i]) {
+				case "--chefs":            chefs = value; break;
+				case "--riders":           riders = value; break;
+				case "--menuQueue":        menuQueues = value; break;
+				case "--deliveryQueue":    deliveryQueues = value; break;
+				case "--config":           configPath = value; break;
+				case "--speedup":          speedup = Integer.parseInt(value); break;
+				case "--simSeconds":       simSeconds = Long.parseLong(value); break;
+				case "--targetP99Ms":      targetP99Ms = Long.parseLong(value); break;
+				case "--targetThroughput": targetThroughput = Double.parseDouble(value); break;
+				case "--chefCost":         chefCost = Double.parseDouble(value); break;
+				case "--riderCost":        riderCost = Double.parseDouble(value); break;
+				case "--parallelism":      parallelism = Integer.parseInt(value); break;
+				case "--orderIntervalMs":  orderIntervalMs = Integer.parseInt(value); break;
+				default:
+					System.err.println("알 수 없는 인자: " + args[i]);
+			}
+		}
+
+		// 수백 개 인스턴스의 로그가 같은 파일 어펜더로 몰리면 측정이 왜곡되므로 경고 이상만 기록
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+		RestaurantConfig baseConfig = RestaurantConfig.load(Paths.get(configPath));
+		if (orderIntervalMs != null) {
+			Properties props = baseConfig.toProperties();
+			props.setProperty("order.intervalMinMs", String.valueOf(orderIntervalMs));
+			baseConfig.apply(props);
+		}
+		if (targetThroughput < 0) {
+			double avgIntervalMs = baseConfig.getOrderIntervalMinMs() + baseConfig.getOrderIntervalJitterMs() / 2.0;
+			targetThroughput = 0.95 * 60_000 / Math.max(1, avgIntervalMs);
+		}
+
+		List<Scenario> grid = new ArrayList<>();
+		for (int c : parseRange(chefs)) {
+			for (int r : parseRange(riders)) {
+				for (int mq : parseRange(menuQueues)) {
+					for (int dq : parseRange(deliveryQueues)) {
+						grid.add(new Scenario(c, r, mq, dq));
+					}
+				}
+			}
+		}
+
+		System.out.printf("구성 %d개 평가 (가속 %dx, 시뮬레이션 %d초, 병렬 %d)%n", grid.size(), speedup, simSeconds, parallelism);
+		System.out.printf("목표: p99 ≤ %,dms, 처리량 ≥ %.1f건/분%n%n", targetP99Ms, targetThroughput);
+
+		Simulation simulation = new Simulation(baseConfig, speedup, simSeconds * 1000, simSeconds * 100);
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		List<SimulationResult> results;
+		try {
+			results = pool.invoke(new SweepTask(simulation, grid, 0, grid.size()));
+		} finally {
+			pool.shutdown();
+		}
+
+		final double cChef = chefCost;
+		final double cRider = riderCost;
+		results.sort(Comparator.<SimulationResult>comparingDouble(r -> r.getScenario().cost(cChef, cRider))
+				.thenComparingLong(SimulationResult::getP99LatencyMs));
+
+		System.out.println(" 비용  | 구성                                           | 처리량(건/분) |   p50(ms) |   p99(ms) |  적체 | 판정");
+		SimulationResult best = null;
+		for (SimulationResult r : results) {
+			boolean ok = r.meets(targetP99Ms, targetThroughput);
+			if (ok && best == null) {
+				best = r;
+			}
+			System.out.printf("%6.1f | %-44s | %13.1f | %,9d | %,9d | %,5d | %s%n", r.getScenario().cost(cChef, cRider),
+					r.getScenario(), r.getThroughputPerMinute(), r.getP50LatencyMs(), r.getP99LatencyMs(),
+					r.getBacklog(), ok ? "충족" : "미달");
+		}
+
+		System.out.println();
+		if (best != null) {
+			System.out.println("최저 비용 충족 구성: " + best.getScenario());
+		} else {
+			System.out.println("목표를 충족하는 구성이 없습니다. 범위를 넓혀 다시 실행하세요.");
+		}
+		System.exit(0);
+	}
+
+	// "2,4,6" 또는 "2:8:2" 형식의 범위를 정수 목록으로 변환
+	static List<Integer> parseRange(String spec) {
+		List<Integer> values = new ArrayList<>();
+		if (spec.contains(":")) {
+			String[] parts = spec.split(":");
+			int from = Integer.parseInt(parts[0].trim());
+			int to = Integer.parseInt(parts[1].trim());
+			int step = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 1;
+			for (int v = from; v <= to; v += Math.max(1, step)) {
+				values.add(v);
+			}
+		} else {
+			for (String part : spec.split(",")) {
+				values.add(Integer.parseInt(part.trim()));
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * 구성 목록을 반으로 나누어 병렬 실행하고 결과를 모읍니다.
+	 */
+	static final class SweepTask extends RecursiveTask<List<SimulationResult>> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Simulation simulation;
+		private final transient List<Scenario> scenarios;
+		private final int from;
+		private final int to;
+
+		SweepTask(Simulation simulation, List<Scenario> scenarios, int from, int to) {
+			this.simulation = simulation;
+			this.scenarios = scenarios;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected List<SimulationResult> compute() {
+			if (to - from == 1) {
+				List<SimulationResult> single = new ArrayList<>();
+				try {
+					single.add(simulation.run(scenarios.get(from)));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return single;
+			}
+			if (to <= from) {
+				return new ArrayList<>();
+			}
+			int mid = (from + to) >>> 1;
+			SweepTask right = new SweepTask(simulation, scenarios, mid, to);
+			right.fork();
+			List<SimulationResult> results = new SweepTask(simulation, scenarios, from, mid).compute();
+			results.addAll(right.join());
+			return results;
+		}
+	}
+}
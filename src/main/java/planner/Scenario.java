@@ -0,0 +1,48 @@
+package planner;
+
+/**
+ * 계획기에서 평가할 인력/큐 구성 하나
+ */
+public class Scenario {
+	private final int chefCount;
+	private final int riderCount;
+	private final int menuQueueSize;
+	private final int deliveryQueueSize;
+
+	public Scenario(int chefCount, int riderCount, int menuQueueSize, int deliveryQueueSize) {
+		this.chefCount = chefCount;
+		this.riderCount = riderCount;
+		this.menuQueueSize = menuQueueSize;
+		this.deliveryQueueSize = deliveryQueueSize;
+	}
+
+	/**
+	 * 인건비 기준 비용 (요리사/배달원 1인당 비용 가중치)
+	 */
+	public double cost(double chefCost, double riderCost) {
+		return chefCount * chefCost + riderCount * riderCost;
+	}
+
+	// Getters
+	public int getChefCount() {
+		return chefCount;
+	}
+
+	public int getRiderCount() {
+		return riderCount;
+	}
+
+	public int getMenuQueueSize() {
+		return menuQueueSize;
+	}
+
+	public int getDeliveryQueueSize() {
+		return deliveryQueueSize;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("요리사 %d, 배달원 %d, 메뉴 큐 %d, 배달 큐 %d", chefCount, riderCount, menuQueueSize,
+				deliveryQueueSize);
+	}
+}
@@ -0,0 +1,165 @@
+package planner;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import config.RestaurantConfig;
+import core.DeliveryCenter;
+import core.Kitchen;
+import core.OrderGenerator;
+import core.QueueManager;
+import engine.TimerWheelEngine;
+import event.OrderEventBus;
+import event.OrderEventType;
+import model.MenuItem;
+
+/**
+ * 격리된 식당 인스턴스 하나를 가속 시간으로 실행합니다.
+ *
+ * 인스턴스마다 자체 QueueManager / Kitchen / DeliveryCenter / OrderGenerator를 가지며, 요리사와 배달원은
+ * 인스턴스 전용 타이머 휠 엔진으로 구동하므로 구성 규모와 무관하게 소수의 스레드만 사용합니다.
+ * 조리·배달·주문 간격을 {@code speedup}배 줄여 실행하고, 측정값은 다시 시뮬레이션 시간으로 환산합니다.
+ *
+ * 소요 시간 분포는 측정 구간(워밍업 이후)에 접수된 주문 전체를 대상으로 합니다. 실행이 끝날 때까지 배달되지 못한
+ * 주문(적체)은 종료 시각까지의 경과 시간을 소요 시간의 하한으로 넣어, 밀리는 구성의 p99가 좋아 보이지 않게 합니다.
+ */
+public class Simulation {
+
+	private static final int ENGINE_TICK_MS = 1;
+	private static final int IDLE_RETRY_MS = 100;
+	private static final String[] TIME_KEYS = { "delivery.minMs", "delivery.jitterMs", "delivery.cooldownMs",
+			"order.intervalMinMs", "order.intervalJitterMs" };
+
+	private final RestaurantConfig baseConfig;
+	private final int speedup;
+	private final long simDurationMs;
+	private final long warmupMs;
+
+	public Simulation(RestaurantConfig baseConfig, int speedup, long simDurationMs, long warmupMs) {
+		this.baseConfig = baseConfig;
+		this.speedup = speedup;
+		this.simDurationMs = simDurationMs;
+		this.warmupMs = warmupMs;
+	}
+
+	public SimulationResult run(Scenario scenario) throws InterruptedException {
+		RestaurantConfig config = acceleratedConfig(scenario);
+		QueueManager queueManager = new QueueManager(scenario.getMenuQueueSize(), scenario.getDeliveryQueueSize());
+		Kitchen kitchen = new Kitchen(scenario.getChefCount(), queueManager, config);
+		DeliveryCenter deliveryCenter = new DeliveryCenter(scenario.getRiderCount(), queueManager, config);
+		OrderEventBus eventBus = new OrderEventBus();
+		OrderGenerator orderGenerator = new OrderGenerator(queueManager, config, null, eventBus);
+
+		// 측정 구간(워밍업 이후)에 접수된 주문은 배달될 때까지 접수 시각과 함께 보관
+		long startedAt = System.currentTimeMillis();
+		long measureFrom = startedAt + warmupMs / speedup;
+		Map<Integer, Long> inFlight = new ConcurrentHashMap<>();
+		LatencyRecorder recorder = new LatencyRecorder();
+		LongAdder delivered = new LongAdder();
+		eventBus.addListener(event -> {
+			if (event.getType() == OrderEventType.CREATED && event.getTimestamp() >= measureFrom) {
+				inFlight.put(event.getOrderId(), event.getTimestamp());
+			}
+		});
+		deliveryCenter.setDeliveryListener(order -> {
+			long now = System.currentTimeMillis();
+			if (now >= measureFrom) {
+				delivered.increment();
+			}
+			Long createdAt = inFlight.remove(order.getOrderId());
+			if (createdAt != null) {
+				recorder.add(now - createdAt);
+			}
+		});
+
+		TimerWheelEngine engine = new TimerWheelEngine(1, ENGINE_TICK_MS, Math.max(1, IDLE_RETRY_MS / speedup));
+		Thread generatorThread = new Thread(orderGenerator, "Planner-OrderGenerator");
+		engine.start();
+		kitchen.startOperations(engine);
+		deliveryCenter.startOperations(engine);
+		generatorThread.start();
+
+		try {
+			Thread.sleep(simDurationMs / speedup);
+		} finally {
+			orderGenerator.stop();
+			generatorThread.interrupt();
+			kitchen.stop();
+			deliveryCenter.stop();
+			engine.stop();
+			eventBus.close();
+			generatorThread.join();
+		}
+
+		// 배달되지 못한 주문은 종료 시각까지의 경과 시간으로 기록 (실제 소요 시간은 이보다 김)
+		// 종료 직전에 실행 중이던 배달 완료 처리와 겹쳐도 한 번만 세도록 remove로 꺼냄
+		long endedAt = System.currentTimeMillis();
+		int backlog = 0;
+		for (Integer orderId : inFlight.keySet()) {
+			Long createdAt = inFlight.remove(orderId);
+			if (createdAt != null) {
+				recorder.add(endedAt - createdAt);
+				backlog++;
+			}
+		}
+
+		long[] latencies = recorder.sorted();
+		double measuredMinutes = (simDurationMs - warmupMs) / 60000.0;
+		long deliveredCount = delivered.sum();
+		return new SimulationResult(scenario, (int) deliveredCount, deliveredCount / measuredMinutes,
+				percentile(latencies, 50) * speedup, percentile(latencies, 99) * speedup, backlog);
+	}
+
+	// 시간 관련 설정을 speedup배 줄인 인스턴스 전용 설정
+	private RestaurantConfig acceleratedConfig(Scenario scenario) {
+		Properties props = baseConfig.toProperties();
+		props.setProperty("queue.menu.size", String.valueOf(scenario.getMenuQueueSize()));
+		props.setProperty("queue.delivery.size", String.valueOf(scenario.getDeliveryQueueSize()));
+		for (MenuItem menu : MenuItem.values()) {
+			scale(props, "cook." + menu.name(), 1);
+		}
+		for (String key : TIME_KEYS) {
+			scale(props, key, 0);
+		}
+		RestaurantConfig config = new RestaurantConfig();
+		config.apply(props);
+		return config;
+	}
+
+	private void scale(Properties props, String key, int min) {
+		int value = Integer.parseInt(props.getProperty(key));
+		props.setProperty(key, String.valueOf(Math.max(min, value / speedup)));
+	}
+
+	private static long percentile(long[] sorted, int p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+	}
+
+	/**
+	 * 배달원(엔진 작업 스레드)이 기록하고 측정 종료 후 한 번 읽는 소요 시간 버퍼
+	 */
+	private static final class LatencyRecorder {
+		private long[] values = new long[1024];
+		private int count;
+
+		synchronized void add(long latencyMs) {
+			if (count == values.length) {
+				values = Arrays.copyOf(values, count * 2);
+			}
+			values[count++] = latencyMs;
+		}
+
+		synchronized long[] sorted() {
+			long[] copy = Arrays.copyOf(values, count);
+			Arrays.sort(copy);
+			return copy;
+		}
+	}
+}
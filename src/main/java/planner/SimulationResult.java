@@ -0,0 +1,52 @@
+package planner;
+
+/**
+ * 구성 하나를 가속 시간으로 실행한 결과 (모든 시간 값은 시뮬레이션 시간 기준)
+ */
+public class SimulationResult {
+	private final Scenario scenario;
+	private final int deliveredCount;
+	private final double throughputPerMinute;
+	private final long p50LatencyMs;
+	private final long p99LatencyMs;
+	private final int backlog; // 측정 구간에 접수되었지만 실행 종료까지 배달되지 못한 주문 수
+
+	public SimulationResult(Scenario scenario, int deliveredCount, double throughputPerMinute, long p50LatencyMs,
+			long p99LatencyMs, int backlog) {
+		this.scenario = scenario;
+		this.deliveredCount = deliveredCount;
+		this.throughputPerMinute = throughputPerMinute;
+		this.p50LatencyMs = p50LatencyMs;
+		this.p99LatencyMs = p99LatencyMs;
+		this.backlog = backlog;
+	}
+
+	public boolean meets(long targetP99Ms, double targetThroughput) {
+		return deliveredCount > 0 && p99LatencyMs <= targetP99Ms && throughputPerMinute >= targetThroughput;
+	}
+
+	// Getters
+	public Scenario getScenario() {
+		return scenario;
+	}
+
+	public int getDeliveredCount() {
+		return deliveredCount;
+	}
+
+	public double getThroughputPerMinute() {
+		return throughputPerMinute;
+	}
+
+	public long getP50LatencyMs() {
+		return p50LatencyMs;
+	}
+
+	public long getP99LatencyMs() {
+		return p99LatencyMs;
+	}
+
+	public int getBacklog() {
+		return backlog;
+	}
+}
@@ -0,0 +1,217 @@
+package registry;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * int 키 전용 동시성 해시 맵 (키 박싱 없음)
+ *
+ * 키를 여러 세그먼트로 나누고, 세그먼트마다 int 키 배열과 값 배열로 된 열린 주소법(선형 탐사) 테이블을 둡니다.
+ * <ul>
+ * <li>조회: 락 없이 현재 테이블을 탐사하며 객체를 생성하지 않습니다. 값은 키보다 먼저 release로 기록되므로
+ *     acquire로 키를 확인한 뒤 읽은 값은 항상 완성된 값입니다.</li>
+ * <li>갱신: 해당 세그먼트에만 락을 잡으므로 서로 다른 세그먼트의 갱신은 경합하지 않습니다.</li>
+ * <li>삭제: 값만 null로 지우고 키는 묘비(tombstone)로 남겨 탐사 경로를 유지합니다. 같은 키를 다시 넣으면
+ *     그 칸을 재사용하고, 사용 중인 칸이 3/4을 넘으면 묘비를 걷어내며 새 테이블로 옮깁니다.</li>
+ * </ul>
+ * 새 테이블은 완성된 뒤에 교체되므로, 교체 중에 조회하는 스레드는 이전 테이블에서 교체 직전 상태를 봅니다.
+ *
+ * {@link #EMPTY_KEY}(Integer.MIN_VALUE)는 빈 칸 표시로 쓰이므로 키로 사용할 수 없고, null 값도 넣을 수 없습니다.
+ */
+public class IntConcurrentMap<V> {
+
+	public static final int EMPTY_KEY = Integer.MIN_VALUE;
+	private static final int DEFAULT_SEGMENTS = 16;
+	private static final int MIN_TABLE_SIZE = 16;
+
+	private final Segment<V>[] segments;
+	private final int segmentShift;
+
+	public IntConcurrentMap() {
+		this(DEFAULT_SEGMENTS);
+	}
+
+	/**
+	 * @param segmentCount 세그먼트 수 (2의 거듭제곱으로 올림), 동시에 갱신할 스레드 수 정도가 적당
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public IntConcurrentMap(int segmentCount) {
+		int count = segmentCount <= 1 ? 1 : Integer.highestOneBit(segmentCount - 1) << 1;
+		this.segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment<>();
+		}
+		this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+	}
+
+	// 연속된 주문 번호도 고르게 흩어지도록 섞음 (상위 비트 → 세그먼트, 하위 비트 → 칸)
+	private static int spread(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private Segment<V> segmentFor(int hash) {
+		return segments.length == 1 ? segments[0] : segments[(hash >>> segmentShift)];
+	}
+
+	public V get(int key) {
+		int hash = spread(key);
+		return segmentFor(hash).get(key, hash);
+	}
+
+	/**
+	 * @return 이전 값, 없었으면 null
+	 */
+	public V put(int key, V value) {
+		checkArguments(key, value);
+		int hash = spread(key);
+		return segmentFor(hash).put(key, hash, value, false);
+	}
+
+	/**
+	 * 키가 없을 때만 넣습니다.
+	 *
+	 * @return 이미 있던 값 (이 경우 넣지 않음), 새로 넣었으면 null
+	 */
+	public V putIfAbsent(int key, V value) {
+		checkArguments(key, value);
+		int hash = spread(key);
+		return segmentFor(hash).put(key, hash, value, true);
+	}
+
+	/**
+	 * @return 지운 값, 없었으면 null
+	 */
+	public V remove(int key) {
+		int hash = spread(key);
+		return segmentFor(hash).remove(key, hash);
+	}
+
+	/**
+	 * 모든 세그먼트의 항목 수 합 (갱신 중에는 근사치)
+	 */
+	public int size() {
+		int sum = 0;
+		for (Segment<V> segment : segments) {
+			sum += segment.count;
+		}
+		return sum;
+	}
+
+	private static void checkArguments(int key, Object value) {
+		if (key == EMPTY_KEY) {
+			throw new IllegalArgumentException("사용할 수 없는 키: " + key);
+		}
+		if (value == null) {
+			throw new NullPointerException("value");
+		}
+	}
+
+	/**
+	 * 한 세그먼트의 테이블 (크기는 2의 거듭제곱)
+	 */
+	private static final class Table<V> {
+		final AtomicIntegerArray keys;
+		final AtomicReferenceArray<V> values;
+		final int mask;
+
+		Table(int size) {
+			this.keys = new AtomicIntegerArray(size);
+			this.values = new AtomicReferenceArray<>(size);
+			this.mask = size - 1;
+			for (int i = 0; i < size; i++) {
+				keys.setPlain(i, EMPTY_KEY);
+			}
+		}
+	}
+
+	private static final class Segment<V> {
+		// 조회 스레드는 락 없이 읽으므로 교체가 바로 보이도록 volatile
+		private volatile Table<V> table = new Table<>(MIN_TABLE_SIZE);
+		private volatile int count;  // 값이 있는 칸 수
+		private int used;            // 키가 기록된 칸 수 (묘비 포함, 락 안에서만 접근)
+
+		V get(int key, int hash) {
+			Table<V> t = table;
+			for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+				int k = t.keys.getAcquire(i);
+				if (k == key) {
+					return t.values.getAcquire(i);
+				}
+				if (k == EMPTY_KEY) {
+					return null;
+				}
+			}
+		}
+
+		synchronized V put(int key, int hash, V value, boolean onlyIfAbsent) {
+			Table<V> t = table;
+			for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+				int k = t.keys.getPlain(i);
+				if (k == key) {
+					V previous = t.values.getPlain(i);
+					if (previous != null && onlyIfAbsent) {
+						return previous;
+					}
+					t.values.setRelease(i, value);
+					if (previous == null) {
+						count++;
+					}
+					return previous;
+				}
+				if (k == EMPTY_KEY) {
+					// 값을 먼저 기록해야 키를 본 조회 스레드가 빈 값을 읽지 않음
+					t.values.setRelease(i, value);
+					t.keys.setRelease(i, key);
+					count++;
+					if (++used > (t.mask + 1) * 3 / 4) {
+						rehash(t);
+					}
+					return null;
+				}
+			}
+		}
+
+		synchronized V remove(int key, int hash) {
+			Table<V> t = table;
+			for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+				int k = t.keys.getPlain(i);
+				if (k == key) {
+					V previous = t.values.getPlain(i);
+					if (previous != null) {
+						t.values.setRelease(i, null);
+						count--;
+					}
+					return previous;
+				}
+				if (k == EMPTY_KEY) {
+					return null;
+				}
+			}
+		}
+
+		// 묘비를 걷어내고 살아 있는 항목 수에 맞는 크기의 새 테이블로 옮김 (락 안에서 호출)
+		private void rehash(Table<V> old) {
+			int size = MIN_TABLE_SIZE;
+			while (count * 2 > size) {
+				size <<= 1;
+			}
+			Table<V> fresh = new Table<>(size);
+			for (int i = 0; i <= old.mask; i++) {
+				V value = old.values.getPlain(i);
+				if (value == null) {
+					continue;
+				}
+				int key = old.keys.getPlain(i);
+				int j = spread(key) & fresh.mask;
+				while (fresh.keys.getPlain(j) != EMPTY_KEY) {
+					j = (j + 1) & fresh.mask;
+				}
+				fresh.keys.setPlain(j, key);
+				fresh.values.setPlain(j, value);
+			}
+			used = count;
+			table = fresh; // volatile 기록으로 새 테이블의 내용까지 함께 공개
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package registry;
+
+/**
+ * 주문에 담긴 메뉴 하나의 조리 상태
+ */
+public enum ItemStatus {
+	WAITING("대기"),
+	COOKING("조리 중"),
+	COOKED("완료");
+
+	private final String name;
+
+	ItemStatus(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
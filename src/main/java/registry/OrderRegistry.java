@@ -0,0 +1,245 @@
+package registry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import config.RestaurantConfig;
+import event.OrderEvent;
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 주문 번호로 주문의 현재 위치를 조회하는 등록부
+ *
+ * 주문 이벤트 스트림의 동기 리스너로 등록되어 접수부터 배달 완료까지 주문별 진행 단계, 메뉴별 조리 상태,
+ * 각 단계 시각을 기록합니다. 메뉴 큐·요리사·배달원을 뒤지지 않고 {@link #lookup(int)} 한 번으로 답합니다.
+ *
+ * <ul>
+ * <li>진행 중인 주문: int 키 동시성 맵({@link IntConcurrentMap})에 보관, 조회는 락 없이 O(1)</li>
+ * <li>배달 완료된 주문: 진행 중 맵에서 빼고 최근 N건만 남기는 이력에 스냅샷으로 보관, 넘치면 오래된 것부터 제거</li>
+ * </ul>
+ * 같은 주문의 이벤트는 여러 요리사·배달원 스레드에서 동시에 올 수 있으므로 주문별 추적기 단위로 동기화합니다.
+ */
+public class OrderRegistry implements Consumer<OrderEvent> {
+
+	public static final int DEFAULT_HISTORY_CAPACITY = 1000;
+
+	private final RestaurantConfig config;
+	private final IntConcurrentMap<Tracker> active = new IntConcurrentMap<>();
+	private final IntConcurrentMap<OrderStatus> history = new IntConcurrentMap<>();
+	// 이력 제거 순서 (원형 버퍼, historyIds 락 안에서만 접근)
+	private final int[] historyIds;
+	private int historyHead;
+	private int historySize;
+	private long evicted;
+
+	public OrderRegistry(RestaurantConfig config) {
+		this(config, DEFAULT_HISTORY_CAPACITY);
+	}
+
+	/**
+	 * @param historyCapacity 조회 가능하게 남겨둘 배달 완료 주문 수
+	 */
+	public OrderRegistry(RestaurantConfig config, int historyCapacity) {
+		this.config = config;
+		this.historyIds = new int[Math.max(1, historyCapacity)];
+	}
+
+	/**
+	 * 주문 이벤트 반영 (이벤트를 발행한 요리사·배달원·주문 생성 스레드에서 호출)
+	 */
+	@Override
+	public void accept(OrderEvent event) {
+		Order order = event.getOrder();
+		Tracker tracker = active.get(order.getOrderId());
+		if (tracker == null) {
+			// 접수 이벤트가 없던 주문(등록부 연결 전에 접수된 주문 등)도 처음 본 이벤트부터 추적
+			Tracker created = new Tracker(order, event.getTimestamp());
+			tracker = active.putIfAbsent(order.getOrderId(), created);
+			if (tracker == null) {
+				tracker = created;
+			}
+		}
+
+		switch (event.getType()) {
+			case CREATED:
+				break;
+			case ITEM_STARTED:
+				tracker.itemStarted(event.getMenu(), event.getTimestamp() + config.getCookTime(event.getMenu()));
+				break;
+			case ITEM_COOKED:
+				tracker.itemCooked(event.getMenu(), event.getTimestamp());
+				break;
+			case READY:
+				tracker.ready(event.getTimestamp());
+				break;
+			case PICKED_UP:
+				tracker.pickedUp(event.getWorkerId(), event.getTimestamp());
+				break;
+			case DELIVERED:
+				tracker.delivered(event.getTimestamp());
+				archive(order.getOrderId(), tracker.snapshot(event.getTimestamp(), config));
+				break;
+		}
+	}
+
+	// 이력에 먼저 넣은 뒤 진행 중 맵에서 빼므로 조회 시 어느 쪽에도 없는 순간이 없음
+	private void archive(int orderId, OrderStatus status) {
+		synchronized (historyIds) {
+			if (historySize == historyIds.length) {
+				history.remove(historyIds[historyHead]);
+				evicted++;
+			} else {
+				historySize++;
+			}
+			historyIds[historyHead] = orderId;
+			historyHead = (historyHead + 1) % historyIds.length;
+			history.put(orderId, status);
+		}
+		active.remove(orderId);
+	}
+
+	/**
+	 * 주문의 현재 상태를 조회합니다. (락 없음, O(1))
+	 *
+	 * @return 진행 중이면 현재 상태와 예상 시각, 배달 완료면 완료 시점 기록, 모르는 주문(또는 이력에서 밀려난 주문)이면 null
+	 */
+	public OrderStatus lookup(int orderId) {
+		Tracker tracker = active.get(orderId);
+		if (tracker != null) {
+			return tracker.snapshot(System.currentTimeMillis(), config);
+		}
+		return history.get(orderId);
+	}
+
+	/**
+	 * 배달 완료 전인 주문 수 (근사치)
+	 */
+	public int getActiveCount() {
+		return active.size();
+	}
+
+	public int getHistoryCount() {
+		synchronized (historyIds) {
+			return historySize;
+		}
+	}
+
+	/**
+	 * 이력이 가득 차 조회할 수 없게 된 배달 완료 주문 수
+	 */
+	public long getEvictedCount() {
+		synchronized (historyIds) {
+			return evicted;
+		}
+	}
+
+	/**
+	 * 진행 중인 주문 하나의 추적 상태
+	 */
+	private static final class Tracker {
+		private final Order order;
+		private final long createdAt;
+		private final MenuItem[] items;
+		private final ItemStatus[] itemStatuses;
+		private final long[] itemDueAt; // 조리 중이면 예상 완료 시각, 완료면 완료 시각
+		private OrderStage stage = OrderStage.RECEIVED;
+		private long readyAt;
+		private long pickedUpAt;
+		private long deliveredAt;
+		private int riderId = -1;
+
+		Tracker(Order order, long createdAt) {
+			this.order = order;
+			this.createdAt = createdAt;
+			this.items = order.getItems().toArray(new MenuItem[0]);
+			this.itemStatuses = new ItemStatus[items.length];
+			this.itemDueAt = new long[items.length];
+			for (int i = 0; i < items.length; i++) {
+				itemStatuses[i] = ItemStatus.WAITING;
+			}
+		}
+
+		synchronized void itemStarted(MenuItem menu, long dueAt) {
+			int i = find(menu, ItemStatus.WAITING);
+			if (i >= 0) {
+				itemStatuses[i] = ItemStatus.COOKING;
+				itemDueAt[i] = dueAt;
+			}
+			advance(OrderStage.COOKING);
+		}
+
+		synchronized void itemCooked(MenuItem menu, long at) {
+			int i = find(menu, ItemStatus.COOKING);
+			if (i < 0) {
+				i = find(menu, ItemStatus.WAITING);
+			}
+			if (i >= 0) {
+				itemStatuses[i] = ItemStatus.COOKED;
+				itemDueAt[i] = at;
+			}
+			advance(OrderStage.COOKING);
+		}
+
+		synchronized void ready(long at) {
+			readyAt = at;
+			advance(OrderStage.READY);
+		}
+
+		synchronized void pickedUp(int riderId, long at) {
+			this.riderId = riderId;
+			pickedUpAt = at;
+			advance(OrderStage.DELIVERING);
+		}
+
+		synchronized void delivered(long at) {
+			deliveredAt = at;
+			advance(OrderStage.DELIVERED);
+		}
+
+		// 단계는 앞으로만 진행 (같은 주문의 이벤트가 서로 다른 스레드에서 엇갈려 와도 되돌아가지 않음)
+		private void advance(OrderStage next) {
+			if (next.compareTo(stage) > 0) {
+				stage = next;
+			}
+		}
+
+		private int find(MenuItem menu, ItemStatus status) {
+			for (int i = 0; i < items.length; i++) {
+				if (items[i] == menu && itemStatuses[i] == status) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		synchronized OrderStatus snapshot(long now, RestaurantConfig config) {
+			long averageDeliveryMs = config.getDeliveryMinMs() + config.getDeliveryJitterMs() / 2;
+			long readyEta = readyAt;
+			if (readyEta == 0) {
+				readyEta = now;
+				for (int i = 0; i < items.length; i++) {
+					if (itemStatuses[i] == ItemStatus.COOKING) {
+						readyEta = Math.max(readyEta, itemDueAt[i]);
+					} else if (itemStatuses[i] == ItemStatus.WAITING) {
+						readyEta = Math.max(readyEta, now + config.getCookTime(items[i]));
+					}
+				}
+			}
+			long deliveredEta = deliveredAt;
+			if (deliveredEta == 0) {
+				deliveredEta = pickedUpAt > 0
+						? Math.max(now, pickedUpAt + averageDeliveryMs)
+						: readyEta + averageDeliveryMs;
+			}
+
+			List<ItemStatus> statuses = new ArrayList<>(items.length);
+			for (ItemStatus status : itemStatuses) {
+				statuses.add(status);
+			}
+			return new OrderStatus(order.getOrderId(), order.getAddress(), stage, order.getItems(), statuses,
+					createdAt, readyEta, deliveredEta, riderId);
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package registry;
+
+/**
+ * 주문 조회 API의 주문 진행 단계
+ */
+public enum OrderStage {
+	RECEIVED("접수"),
+	COOKING("조리 중"),
+	READY("조리 완료"),
+	DELIVERING("배달 중"),
+	DELIVERED("배달 완료");
+
+	private final String name;
+
+	OrderStage(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
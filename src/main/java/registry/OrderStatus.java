@@ -0,0 +1,102 @@
+package registry;
+
+import java.util.List;
+
+import model.MenuItem;
+
+/**
+ * 주문 조회 결과 (조회 시점의 불변 스냅샷)
+ *
+ * 예상 시각은 조회 시점 기준 추정치입니다. 조리 중인 메뉴는 조리 시작 시각 + 조리 시간, 아직 대기 중인 메뉴는
+ * 지금 바로 조리를 시작한다고 가정하므로 메뉴 큐가 밀려 있으면 실제보다 이르게 나옵니다.
+ * 배달 예상 시각은 조리 완료(또는 배달 출발) 시각에 평균 배달 시간을 더한 값입니다.
+ */
+public class OrderStatus {
+
+	private final int orderId;
+	private final String address;
+	private final OrderStage stage;
+	private final List<MenuItem> items;
+	private final List<ItemStatus> itemStatuses;
+	private final long createdAt;
+	private final long readyAt;      // 조리 완료 시각, 아직이면 예상 시각
+	private final long deliveredAt;  // 배달 완료 시각, 아직이면 예상 시각
+	private final int riderId;       // 배달 출발 전이면 -1
+
+	public OrderStatus(int orderId, String address, OrderStage stage, List<MenuItem> items,
+			List<ItemStatus> itemStatuses, long createdAt, long readyAt, long deliveredAt, int riderId) {
+		this.orderId = orderId;
+		this.address = address;
+		this.stage = stage;
+		this.items = List.copyOf(items);
+		this.itemStatuses = List.copyOf(itemStatuses);
+		this.createdAt = createdAt;
+		this.readyAt = readyAt;
+		this.deliveredAt = deliveredAt;
+		this.riderId = riderId;
+	}
+
+	public int getOrderId() {
+		return orderId;
+	}
+
+	public String getAddress() {
+		return address;
+	}
+
+	public OrderStage getStage() {
+		return stage;
+	}
+
+	public List<MenuItem> getItems() {
+		return items;
+	}
+
+	/**
+	 * {@link #getItems()}와 같은 순서의 메뉴별 조리 상태
+	 */
+	public List<ItemStatus> getItemStatuses() {
+		return itemStatuses;
+	}
+
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	/**
+	 * 조리 완료 시각 (READY 이전 단계면 예상 시각)
+	 */
+	public long getReadyAt() {
+		return readyAt;
+	}
+
+	/**
+	 * 배달 완료 시각 (DELIVERED 이전 단계면 예상 시각)
+	 */
+	public long getDeliveredAt() {
+		return deliveredAt;
+	}
+
+	public int getRiderId() {
+		return riderId;
+	}
+
+	public boolean isDelivered() {
+		return stage == OrderStage.DELIVERED;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("주문#").append(orderId).append(' ').append(stage.getName()).append(" [");
+		for (int i = 0; i < items.size(); i++) {
+			if (i > 0) sb.append(", ");
+			sb.append(items.get(i).getName()).append(' ').append(itemStatuses.get(i).getName());
+		}
+		sb.append("] → ").append(address);
+		if (riderId >= 0) {
+			sb.append(" (배달원#").append(riderId).append(')');
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,255 @@
+package stress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import config.RestaurantConfig;
+import core.DeliveryCenter;
+import core.Kitchen;
+import core.KitchenStats;
+import core.QueueManager;
+import engine.TimerWheelEngine;
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 장시간 부하(soak) 검증
+ *
+ * 많은 요리사·배달원과 여러 주문 생산 스레드로 파이프라인 전체를 조리·배달 시간을 짧게 줄여 계속 돌리면서,
+ * 매초 처리량을 출력하고 종료 후 다음을 검증합니다.
+ * <ul>
+ * <li>생성된 모든 주문이 정확히 한 번 배달됨 (누락·중복 배달 없음)</li>
+ * <li>배달된 주문의 모든 메뉴가 주문 수량만큼 정확히 조리됨 (메뉴 누락·중복 조리 없음)</li>
+ * </ul>
+ * 위반이 있으면 종료 코드 1로 끝납니다.
+ *
+ * 실행: java stress.SoakTest [--chefs 64] [--riders 32] [--producers 4] [--seconds 30]
+ *       [--engine thread|wheel] [--scheduling fcfs|gang] [--cookMs 5] [--deliveryMs 2]
+ */
+public class SoakTest {
+
+	private static final int MAX_REPORTED_IDS = 10;
+
+	private final ConcurrentHashMap<Integer, Order> created = new ConcurrentHashMap<>();
+	private final Set<Integer> delivered = ConcurrentHashMap.newKeySet();
+	private final LongAdder createdCount = new LongAdder();
+	private final LongAdder deliveredCount = new LongAdder();
+	private final Set<Integer> duplicated = ConcurrentHashMap.newKeySet();
+	private final Set<Integer> miscooked = ConcurrentHashMap.newKeySet();
+	private final Set<Integer> unknown = ConcurrentHashMap.newKeySet();
+	private volatile boolean producing = true;
+
+	public static void main(String[] args) throws InterruptedException {
+		int chefs = 64;
+		int riders = 32;
+		int producers = 4;
+		int seconds = 30;
+		int drainSeconds = 30;
+		String engineType = "thread";
+		int engineThreads = 2;
+		String scheduling = "fcfs";
+		int cookMs = 5;
+		int deliveryMs = 2;
+		int menuQueue = 64;
+		int deliveryQueue = 64;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			String value = args[i + 1];
+			switch (args[i]) {
+				case "--chefs":         chefs = Integer.parseInt(value); break;
+				case "--riders":        riders = Integer.parseInt(value); break;
+				case "--producers":     producers = Integer.parseInt(value); break;
+				case "--seconds":       seconds = Integer.parseInt(value); break;
+				case "--drainSeconds":  drainSeconds = Integer.parseInt(value); break;
+				case "--engine":        engineType = value; break;
+				case "--engineThreads": engineThreads = Integer.parseInt(value); break;
+				case "--scheduling":    scheduling = value; break;
+				case "--cookMs":        cookMs = Integer.parseInt(value); break;
+				case "--deliveryMs":    deliveryMs = Integer.parseInt(value); break;
+				case "--menuQueue":     menuQueue = Integer.parseInt(value); break;
+				case "--deliveryQueue": deliveryQueue = Integer.parseInt(value); break;
+				default:
+					System.err.println("알 수 없는 인자: " + args[i]);
+			}
+		}
+
+		// 조리/배달 로그가 파일 어펜더로 몰리면 처리량 측정이 왜곡되므로 오류만 기록
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+		RestaurantConfig config = new RestaurantConfig();
+		Properties props = config.toProperties();
+		for (MenuItem menu : MenuItem.values()) {
+			props.setProperty("cook." + menu.name(), String.valueOf(Math.max(1, cookMs)));
+		}
+		props.setProperty("delivery.minMs", String.valueOf(deliveryMs));
+		props.setProperty("delivery.jitterMs", "0");
+		props.setProperty("delivery.cooldownMs", "0");
+		config.apply(props);
+
+		System.out.printf("요리사 %d, 배달원 %d, 생산 스레드 %d, 엔진 %s, 스케줄링 %s, 조리 %dms, 배달 %dms, %d초%n%n",
+				chefs, riders, producers, engineType, scheduling, cookMs, deliveryMs, seconds);
+
+		boolean passed = new SoakTest().run(config, chefs, riders, producers, seconds, drainSeconds,
+				"wheel".equals(engineType) ? engineThreads : 0, "gang".equals(scheduling), menuQueue, deliveryQueue);
+		System.exit(passed ? 0 : 1);
+	}
+
+	/**
+	 * @param engineThreads 0이면 요리사/배달원당 스레드, 양수면 해당 작업 스레드 수의 타이머 휠 엔진
+	 * @return 위반이 없으면 true
+	 */
+	boolean run(RestaurantConfig config, int chefs, int riders, int producers, int seconds, int drainSeconds,
+			int engineThreads, boolean gang, int menuQueue, int deliveryQueue) throws InterruptedException {
+		QueueManager queueManager = new QueueManager(menuQueue, deliveryQueue);
+		Kitchen kitchen = new Kitchen(chefs, queueManager, config, gang, null);
+		DeliveryCenter deliveryCenter = new DeliveryCenter(riders, queueManager, config);
+		deliveryCenter.setDeliveryListener(this::onDelivered);
+
+		TimerWheelEngine engine = null;
+		if (engineThreads > 0) {
+			engine = new TimerWheelEngine(engineThreads, 1, 5);
+			engine.start();
+			kitchen.startOperations(engine);
+			deliveryCenter.startOperations(engine);
+		} else {
+			kitchen.startOperations();
+			deliveryCenter.startOperations();
+		}
+
+		List<Thread> producerThreads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			Thread thread = new Thread(() -> produce(queueManager), "soak-producer-" + p);
+			producerThreads.add(thread);
+			thread.start();
+		}
+
+		long started = System.currentTimeMillis();
+		System.out.println("  초 | 생성(건/초) | 배달(건/초) | 조리(개/초) | 처리 중");
+		long lastCreated = 0;
+		long lastDelivered = 0;
+		long lastCooked = 0;
+		for (int s = 1; s <= seconds; s++) {
+			Thread.sleep(Math.max(0, started + s * 1000L - System.currentTimeMillis()));
+			long c = createdCount.sum();
+			long d = deliveredCount.sum();
+			long k = cookedItems(kitchen.getStats());
+			System.out.printf("%4d | %,11d | %,11d | %,11d | %,7d%n", s, c - lastCreated, d - lastDelivered,
+					k - lastCooked, c - d);
+			lastCreated = c;
+			lastDelivered = d;
+			lastCooked = k;
+		}
+		long measuredMs = System.currentTimeMillis() - started;
+
+		// 생산 중단 후 남은 주문이 모두 배달될 때까지 대기 (생산 스레드는 주문 단위로만 멈추므로 분배 도중 끊기지 않음)
+		producing = false;
+		for (Thread thread : producerThreads) {
+			thread.join();
+		}
+		long drainDeadline = System.currentTimeMillis() + drainSeconds * 1000L;
+		while (deliveredCount.sum() < createdCount.sum() && System.currentTimeMillis() < drainDeadline) {
+			Thread.sleep(50);
+		}
+		// 중복 배달이 뒤늦게 나타나는지 잠시 더 관찰
+		Thread.sleep(200);
+
+		kitchen.stop();
+		deliveryCenter.stop();
+		if (engine != null) {
+			engine.stop();
+		}
+
+		return report(kitchen.getStats(), measuredMs);
+	}
+
+	private void produce(QueueManager queueManager) {
+		MenuItem[] menus = MenuItem.values();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (producing) {
+			int itemCount = random.nextInt(3) + 1;
+			List<MenuItem> items = new ArrayList<>(itemCount);
+			for (int i = 0; i < itemCount; i++) {
+				items.add(menus[random.nextInt(menus.length)]);
+			}
+			Order order = new Order(queueManager.nextOrderId(), items, "soak");
+			created.put(order.getOrderId(), order);
+			createdCount.increment();
+			try {
+				for (MenuItem item : items) {
+					queueManager.getMenuQueue(item).push(order);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// 배달원 스레드(또는 엔진 작업 스레드)에서 호출
+	private void onDelivered(Order order) {
+		int id = order.getOrderId();
+		if (!created.containsKey(id)) {
+			unknown.add(id);
+		}
+		if (!delivered.add(id)) {
+			duplicated.add(id);
+			return;
+		}
+		if (!order.isCookedExactly()) {
+			miscooked.add(id);
+		}
+		deliveredCount.increment();
+	}
+
+	private boolean report(KitchenStats stats, long measuredMs) {
+		List<Integer> missing = new ArrayList<>();
+		for (Integer id : created.keySet()) {
+			if (!delivered.contains(id)) {
+				missing.add(id);
+			}
+		}
+
+		long createdTotal = createdCount.sum();
+		long deliveredTotal = deliveredCount.sum();
+		double seconds = measuredMs / 1000.0;
+		System.out.println();
+		System.out.printf("생성 %,d건, 배달 %,d건, 조리 %,d개%n", createdTotal, deliveredTotal, cookedItems(stats));
+		System.out.printf("평균 처리량: 배달 %,.0f건/초, 조리 %,.0f개/초 (측정 구간 %.1f초)%n",
+				deliveredTotal / seconds, cookedItems(stats) / seconds, seconds);
+
+		boolean passed = check("배달되지 않은 주문", missing)
+				& check("중복 배달된 주문", new ArrayList<>(duplicated))
+				& check("메뉴 누락·중복 조리된 주문", new ArrayList<>(miscooked))
+				& check("생성 기록 없이 배달된 주문", new ArrayList<>(unknown));
+		System.out.println(passed ? "→ 통과" : "→ 실패");
+		return passed;
+	}
+
+	private static boolean check(String label, List<Integer> ids) {
+		if (ids.isEmpty()) {
+			System.out.printf("  %s: 없음%n", label);
+			return true;
+		}
+		ids.sort(null);
+		System.out.printf("  %s: %,d건 %s%s%n", label, ids.size(), ids.subList(0, Math.min(MAX_REPORTED_IDS, ids.size())),
+				ids.size() > MAX_REPORTED_IDS ? " ..." : "");
+		return false;
+	}
+
+	private static long cookedItems(KitchenStats stats) {
+		long sum = 0;
+		for (MenuItem menu : MenuItem.values()) {
+			sum += stats.getCookedItems(menu);
+		}
+		return sum;
+	}
+}
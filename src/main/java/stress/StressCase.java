@@ -0,0 +1,47 @@
+package stress;
+
+/**
+ * jcstress 방식의 동시성 검증 케이스
+ *
+ * 매 반복마다 새 상태({@link #newState()})를 만들고 두 스레드가 동시에 {@link #actor1}, {@link #actor2}를
+ * 실행한 뒤, 두 스레드가 모두 끝나면 {@link #arbiter}가 결과를 문자열로 요약합니다.
+ * {@link StressRunner}가 결과별 발생 횟수를 세고, 허용되지 않은 결과가 한 번이라도 나오면 실패로 보고합니다.
+ *
+ * 새 큐나 스케줄러를 검증하려면 이 클래스를 상속한 케이스를 {@link StressSuite}에 추가하면 됩니다.
+ *
+ * @param <S> 반복마다 새로 만드는 공유 상태
+ */
+public abstract class StressCase<S> {
+
+	private final String name;
+	private final String description;
+
+	protected StressCase(String name, String description) {
+		this.name = name;
+		this.description = description;
+	}
+
+	protected abstract S newState();
+
+	protected abstract void actor1(S state);
+
+	protected abstract void actor2(S state);
+
+	/**
+	 * 두 actor가 끝난 뒤 상태를 검사하여 결과를 요약합니다.
+	 */
+	protected abstract String arbiter(S state);
+
+	/**
+	 * 결과가 올바른 동작인지 여부
+	 */
+	protected abstract boolean isAcceptable(String outcome);
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
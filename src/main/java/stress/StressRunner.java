@@ -0,0 +1,125 @@
+package stress;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Consumer;
+
+/**
+ * {@link StressCase}를 반복 실행하여 결과 분포를 집계합니다.
+ *
+ * 스레드 생성 비용이 경합 구간보다 훨씬 크므로 반복마다 스레드를 만들지 않고, 상태를 batch개씩 미리 만든 뒤
+ * 두 actor 스레드가 배리어에서 동시에 출발하여 같은 순서로 상태 배열을 훑습니다.
+ * 같은 인덱스의 상태를 두 스레드가 거의 같은 시각에 건드리게 되어 경합이 자주 발생합니다.
+ *
+ * actor가 예외를 던진 상태는 판정하지 않고 "예외 actorN: 예외 클래스" 결과로 집계하며, 이 결과는 항상 금지입니다.
+ */
+public class StressRunner {
+
+	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(StressRunner.class);
+
+	private static final String EXCEPTION_PREFIX = "예외 ";
+
+	private final int iterations;
+	private final int batchSize;
+
+	public StressRunner(int iterations, int batchSize) {
+		this.iterations = iterations;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return 허용되지 않은 결과가 없으면 true
+	 */
+	public <S> boolean run(StressCase<S> stressCase, PrintStream out) throws InterruptedException {
+		@SuppressWarnings("unchecked")
+		S[] states = (S[]) new Object[batchSize];
+		Throwable[] failures1 = new Throwable[batchSize];
+		Throwable[] failures2 = new Throwable[batchSize];
+		CyclicBarrier start = new CyclicBarrier(3);
+		CyclicBarrier done = new CyclicBarrier(3);
+		int batches = (iterations + batchSize - 1) / batchSize;
+
+		Thread actor1 = new Thread(actorLoop(states, failures1, batches, start, done, stressCase::actor1), "stress-actor1");
+		Thread actor2 = new Thread(actorLoop(states, failures2, batches, start, done, stressCase::actor2), "stress-actor2");
+		actor1.start();
+		actor2.start();
+
+		Map<String, Long> outcomes = new TreeMap<>();
+		long started = System.nanoTime();
+		try {
+			for (int b = 0; b < batches; b++) {
+				for (int i = 0; i < batchSize; i++) {
+					states[i] = stressCase.newState();
+					failures1[i] = null;
+					failures2[i] = null;
+				}
+				start.await();
+				done.await();
+				for (int i = 0; i < batchSize; i++) {
+					String outcome;
+					if (failures1[i] != null) {
+						outcome = exceptionOutcome("actor1", failures1[i], outcomes);
+					} else if (failures2[i] != null) {
+						outcome = exceptionOutcome("actor2", failures2[i], outcomes);
+					} else {
+						outcome = stressCase.arbiter(states[i]);
+					}
+					outcomes.merge(outcome, 1L, Long::sum);
+				}
+			}
+		} catch (BrokenBarrierException e) {
+			throw new IllegalStateException("actor 스레드 비정상 종료: " + stressCase.getName(), e);
+		} finally {
+			actor1.join();
+			actor2.join();
+		}
+		long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+		boolean passed = true;
+		out.printf("[%s] %s (%,d회, %,dms)%n", stressCase.getName(), stressCase.getDescription(),
+				(long) batches * batchSize, elapsedMs);
+		for (Map.Entry<String, Long> entry : outcomes.entrySet()) {
+			boolean ok = !entry.getKey().startsWith(EXCEPTION_PREFIX) && stressCase.isAcceptable(entry.getKey());
+			passed &= ok;
+			out.printf("    %-10s %,12d  %s%n", ok ? "허용" : "금지", entry.getValue(), entry.getKey());
+		}
+		out.println(passed ? "    → 통과" : "    → 실패: 허용되지 않은 결과 발생");
+		return passed;
+	}
+
+	// 같은 종류의 예외는 처음 한 번만 스택 트레이스를 남김
+	private static String exceptionOutcome(String actor, Throwable e, Map<String, Long> outcomes) {
+		String outcome = EXCEPTION_PREFIX + actor + ": " + e.getClass().getSimpleName();
+		if (!outcomes.containsKey(outcome)) {
+			logger.error("stress actor 예외 ({})", actor, e);
+		}
+		return outcome;
+	}
+
+	// 예외는 상태별로 failures에 기록하고 다음 상태로 진행 (배리어 진행을 유지하여 실행 전체를 끝까지 집계)
+	private <S> Runnable actorLoop(S[] states, Throwable[] failures, int batches, CyclicBarrier start,
+			CyclicBarrier done, Consumer<S> action) {
+		return () -> {
+			try {
+				for (int b = 0; b < batches; b++) {
+					start.await();
+					for (int i = 0; i < states.length; i++) {
+						try {
+							action.accept(states[i]);
+						} catch (Throwable e) {
+							failures[i] = e;
+						}
+					}
+					done.await();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (BrokenBarrierException e) {
+				// 다른 참여자가 먼저 종료됨
+			}
+		};
+	}
+}
@@ -0,0 +1,308 @@
+package stress;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import config.RestaurantConfig;
+import core.KitchenStats;
+import core.QueueManager;
+import inventory.StripedStockCounter;
+import model.MenuItem;
+import model.Order;
+import model.OrderQueue;
+import thread.ChefWorker;
+
+/**
+ * 주문 파이프라인 동시성 검증 모음 (jcstress 방식)
+ *
+ * 실행: java stress.StressSuite [--iterations 200000] [--batch 1000]
+ * 허용되지 않은 결과가 하나라도 나오면 종료 코드 1로 끝납니다.
+ */
+public class StressSuite {
+
+	public static void main(String[] args) throws InterruptedException {
+		int iterations = 200_000;
+		int batch = 1000;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "--iterations": iterations = Integer.parseInt(args[i + 1]); break;
+				case "--batch":      batch = Integer.parseInt(args[i + 1]); break;
+				default:
+					System.err.println("알 수 없는 인자: " + args[i]);
+			}
+		}
+
+		// 요리사의 조리 시작/긴급 처리 로그가 측정을 왜곡하지 않도록 오류만 기록
+		((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.ERROR);
+
+		List<StressCase<?>> cases = Arrays.asList(
+				new UrgentVsEarliestSelection(),
+				new LastItemHandoff(),
+				new OfferIntoLastSlot(),
+				new PollVersusRemove(),
+				new StripedTakeLastUnits());
+
+		StressRunner runner = new StressRunner(iterations, batch);
+		int failed = 0;
+		for (StressCase<?> stressCase : cases) {
+			if (!runner.run(stressCase, System.out)) {
+				failed++;
+			}
+			System.out.println();
+		}
+		System.out.printf("%d개 중 %d개 통과%n", cases.size(), cases.size() - failed);
+		System.exit(failed == 0 ? 0 : 1);
+	}
+
+	/**
+	 * 두 요리사가 동시에 일감을 찾을 때 긴급 탐색(poll)과 주문 번호 탐색(peek → poll)이 엇갈려도
+	 * 같은 메뉴를 두 번 조리하거나 메뉴를 잃어버리지 않아야 합니다.
+	 *
+	 * 커피 큐는 긴급 임계치(75%)에 걸리도록 3/4, 피자 큐에는 뒤 번호 주문 하나를 둡니다.
+	 */
+	static final class UrgentVsEarliestSelection extends StressCase<UrgentVsEarliestSelection.State> {
+		private static final RestaurantConfig CONFIG = urgentConfig();
+
+		static final class State {
+			final QueueManager queueManager = new QueueManager(4, 4);
+			final KitchenStats stats = new KitchenStats();
+			final ChefWorker chefA = new ChefWorker(0, queueManager, CONFIG, stats);
+			final ChefWorker chefB = new ChefWorker(1, queueManager, CONFIG, stats);
+
+			State() {
+				OrderQueue coffee = queueManager.getMenuQueue(MenuItem.COFFEE);
+				for (int id = 1; id <= 3; id++) {
+					coffee.offer(new Order(id, Collections.singletonList(MenuItem.COFFEE), "stress"));
+				}
+				queueManager.getMenuQueue(MenuItem.PIZZA)
+						.offer(new Order(9, Collections.singletonList(MenuItem.PIZZA), "stress"));
+			}
+		}
+
+		UrgentVsEarliestSelection() {
+			super("urgent-vs-earliest", "긴급 탐색과 주문 번호 탐색이 같은 메뉴를 중복 인출하지 않음");
+		}
+
+		private static RestaurantConfig urgentConfig() {
+			RestaurantConfig config = new RestaurantConfig();
+			Properties props = config.toProperties();
+			props.setProperty("kitchen.urgentPercent", "75");
+			config.apply(props);
+			return config;
+		}
+
+		@Override
+		protected State newState() {
+			return new State();
+		}
+
+		@Override
+		protected void actor1(State s) {
+			s.chefA.tryStartWork();
+		}
+
+		@Override
+		protected void actor2(State s) {
+			s.chefB.tryStartWork();
+		}
+
+		// "A가 조리 중인 주문, B가 조리 중인 주문, 큐에 남은 주문 수"
+		@Override
+		protected String arbiter(State s) {
+			int remaining = 0;
+			for (MenuItem menu : MenuItem.values()) {
+				remaining += s.queueManager.getQueueSize(menu);
+			}
+			return "A=#" + idOf(s.chefA) + " B=#" + idOf(s.chefB) + " 남음=" + remaining;
+		}
+
+		@Override
+		protected boolean isAcceptable(String outcome) {
+			// 두 요리사가 서로 다른 주문을 하나씩 가져가고 나머지 2건은 큐에 남아야 함
+			String[] parts = outcome.split(" ");
+			return !parts[0].substring(2).equals(parts[1].substring(2)) && parts[2].equals("남음=2");
+		}
+
+		private static String idOf(ChefWorker chef) {
+			Order order = chef.getCurrentOrder();
+			return order == null ? "-" : String.valueOf(order.getOrderId());
+		}
+	}
+
+	/**
+	 * 두 메뉴짜리 주문의 두 메뉴를 두 요리사가 동시에 완료할 때, 정확히 한 요리사만 배달 큐로 넘겨야 합니다.
+	 */
+	static final class LastItemHandoff extends StressCase<LastItemHandoff.State> {
+		static final class State {
+			final Order order = new Order(1, Arrays.asList(MenuItem.PIZZA, MenuItem.PASTA), "stress");
+			boolean handoff1;
+			boolean handoff2;
+		}
+
+		LastItemHandoff() {
+			super("last-item-handoff", "마지막 메뉴 완료 판정은 정확히 한 번");
+		}
+
+		@Override
+		protected State newState() {
+			return new State();
+		}
+
+		@Override
+		protected void actor1(State s) {
+			s.handoff1 = s.order.addItemComplete(MenuItem.PIZZA);
+		}
+
+		@Override
+		protected void actor2(State s) {
+			s.handoff2 = s.order.addItemComplete(MenuItem.PASTA);
+		}
+
+		@Override
+		protected String arbiter(State s) {
+			return (s.handoff1 ? "넘김" : "-") + ", " + (s.handoff2 ? "넘김" : "-")
+					+ (s.order.isCookedExactly() ? "" : " 조리수량불일치");
+		}
+
+		@Override
+		protected boolean isAcceptable(String outcome) {
+			return outcome.equals("넘김, -") || outcome.equals("-, 넘김");
+		}
+	}
+
+	/**
+	 * 빈자리가 하나 남은 큐에 두 스레드가 동시에 offer하면 정확히 하나만 들어가야 합니다.
+	 */
+	static final class OfferIntoLastSlot extends StressCase<OfferIntoLastSlot.State> {
+		static final class State {
+			final OrderQueue queue = new OrderQueue("stress", 2);
+			boolean accepted1;
+			boolean accepted2;
+
+			State() {
+				queue.offer(new Order(0, Collections.singletonList(MenuItem.COFFEE), "stress"));
+			}
+		}
+
+		OfferIntoLastSlot() {
+			super("offer-last-slot", "마지막 한 자리에 동시 offer 시 하나만 성공, 용량 초과 없음");
+		}
+
+		@Override
+		protected State newState() {
+			return new State();
+		}
+
+		@Override
+		protected void actor1(State s) {
+			s.accepted1 = s.queue.offer(new Order(1, Collections.singletonList(MenuItem.COFFEE), "stress"));
+		}
+
+		@Override
+		protected void actor2(State s) {
+			s.accepted2 = s.queue.offer(new Order(2, Collections.singletonList(MenuItem.COFFEE), "stress"));
+		}
+
+		@Override
+		protected String arbiter(State s) {
+			return (s.accepted1 ? "성공" : "거절") + ", " + (s.accepted2 ? "성공" : "거절") + " 크기=" + s.queue.size();
+		}
+
+		@Override
+		protected boolean isAcceptable(String outcome) {
+			return outcome.equals("성공, 거절 크기=2") || outcome.equals("거절, 성공 크기=2");
+		}
+	}
+
+	/**
+	 * 일반 인출(poll)과 동시 조리 인출(remove)이 같은 주문을 두고 경쟁하면 한쪽만 가져가야 합니다.
+	 */
+	static final class PollVersusRemove extends StressCase<PollVersusRemove.State> {
+		static final class State {
+			final OrderQueue queue = new OrderQueue("stress", 4);
+			final Order order = new Order(1, Collections.singletonList(MenuItem.PIZZA), "stress");
+			Order polled;
+			boolean removed;
+
+			State() {
+				queue.offer(order);
+			}
+		}
+
+		PollVersusRemove() {
+			super("poll-vs-remove", "poll과 remove가 같은 주문을 중복 인출하지 않음");
+		}
+
+		@Override
+		protected State newState() {
+			return new State();
+		}
+
+		@Override
+		protected void actor1(State s) {
+			s.polled = s.queue.poll();
+		}
+
+		@Override
+		protected void actor2(State s) {
+			s.removed = s.queue.remove(s.order);
+		}
+
+		@Override
+		protected String arbiter(State s) {
+			return (s.polled != null ? "poll" : "-") + ", " + (s.removed ? "remove" : "-") + " 크기=" + s.queue.size();
+		}
+
+		@Override
+		protected boolean isAcceptable(String outcome) {
+			return outcome.equals("poll, - 크기=0") || outcome.equals("-, remove 크기=0");
+		}
+	}
+
+	/**
+	 * 여러 칸에 흩어진 재고 3개를 두 스레드가 2개씩 동시에 가져가면 한쪽만 성공하고 1개가 남아야 합니다.
+	 * (한 칸으로는 부족하여 여러 칸에서 모으는 경로를 검증)
+	 */
+	static final class StripedTakeLastUnits extends StressCase<StripedTakeLastUnits.State> {
+		static final class State {
+			final StripedStockCounter counter = new StripedStockCounter(3, 4);
+			boolean taken1;
+			boolean taken2;
+		}
+
+		StripedTakeLastUnits() {
+			super("striped-take", "칸 분할 재고에서 남은 수량 이상 차감되지 않음");
+		}
+
+		@Override
+		protected State newState() {
+			return new State();
+		}
+
+		@Override
+		protected void actor1(State s) {
+			s.taken1 = s.counter.tryTake(2);
+		}
+
+		@Override
+		protected void actor2(State s) {
+			s.taken2 = s.counter.tryTake(2);
+		}
+
+		@Override
+		protected String arbiter(State s) {
+			return (s.taken1 ? "성공" : "실패") + ", " + (s.taken2 ? "성공" : "실패") + " 남음=" + s.counter.available();
+		}
+
+		@Override
+		protected boolean isAcceptable(String outcome) {
+			return outcome.equals("성공, 실패 남음=1") || outcome.equals("실패, 성공 남음=1");
+		}
+	}
+}
@@ -1,8 +1,17 @@
 package thread;
 
+import java.util.Iterator;
 import java.util.Map;
 
+import config.RestaurantConfig;
+import core.GangScheduler;
+import core.KitchenStats;
 import core.QueueManager;
+import event.OrderEventBus;
+import inventory.Inventory;
+import jfr.CookEvent;
+import jfr.DeliveryHandoffEvent;
+import jfr.WorkSelectionEvent;
 import model.MenuItem;
 import model.Order;
 import model.OrderQueue;
@@ -11,17 +20,43 @@ public class ChefWorker implements Runnable {
 
 	private final int id;
 	private final QueueManager queueManager;
+	private final RestaurantConfig config;
+	private final KitchenStats stats;
+	private final GangScheduler gang; // null이면 메뉴 단위 선착순(FCFS) 스케줄링
+	private final Inventory inventory; // null이면 재고 제한 없음
+	private final OrderEventBus eventBus; // null이면 주문 이벤트 발행 안 함
 	private volatile boolean running = true;
 	private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(ChefWorker.class);
 
-	// 현재 상태 (대시보드용)
-	private Order currentOrder;
-	private MenuItem currentMenu;
-	private int progress;
+	// 현재 상태 (대시보드용) - 진행률은 조리 시작/종료 시각으로 조회 시점에 계산
+	private volatile Order currentOrder;
+	private volatile MenuItem currentMenu;
+	private volatile long cookStartedAt;
+	private volatile long cookEndsAt;
+	private volatile boolean waitingIngredients;
 
-	public ChefWorker(int id, QueueManager queueManager) {
+	// JFR 이벤트 (조리/이관이 엔진의 여러 작업 스레드에 걸칠 수 있어 필드로 보관)
+	private CookEvent cookEvent;
+	private DeliveryHandoffEvent handOffEvent;
+
+	public ChefWorker(int id, QueueManager queueManager, RestaurantConfig config, KitchenStats stats) {
+		this(id, queueManager, config, stats, null, null);
+	}
+
+	public ChefWorker(int id, QueueManager queueManager, RestaurantConfig config, KitchenStats stats,
+			GangScheduler gang, Inventory inventory) {
+		this(id, queueManager, config, stats, gang, inventory, null);
+	}
+
+	public ChefWorker(int id, QueueManager queueManager, RestaurantConfig config, KitchenStats stats,
+			GangScheduler gang, Inventory inventory, OrderEventBus eventBus) {
 		this.id = id;
 		this.queueManager = queueManager;
+		this.config = config;
+		this.stats = stats;
+		this.gang = gang;
+		this.inventory = inventory;
+		this.eventBus = eventBus;
 	}
 
 	@Override
@@ -32,24 +67,32 @@ public class ChefWorker implements Runnable {
 				Order order = findWork();
 
 				if (order == null) {
-					Thread.sleep(100); // 일감 없으면 잠깐 대기
+					// 일감 없으면 잠깐 대기 (동시 조리 모드에서는 주문이 게시되면 바로 깨어남)
+					if (gang != null) {
+						gang.awaitWork(100);
+					} else {
+						Thread.sleep(100);
+					}
 					continue;
 				}
 
-				// 2. 조리 수행
-				cook();
+				// 2. 재료 차감 (부족하면 입고될 때까지 대기)
+				while (!tryConsumeIngredients()) {
+					inventory.awaitRestock(100);
+				}
+
+				// 3. 조리 수행
+				Thread.sleep(beginCooking());
 
-				// 3. 조리 완료 처리
-				if (currentOrder.addItemComplete()) {
+				// 4. 조리 완료 처리
+				if (markItemDone()) {
 					// 주문의 모든 메뉴 완료 → 배달 큐로
 					queueManager.getDeliveryQueue().push(currentOrder);
-					logger.info("[요리사#" + id + "] 주문#" + currentOrder.getOrderId() + " 조리 완료 → 배달 큐");
+					logReady();
 				}
 
-				// 4. 상태 초기화
-				currentOrder = null;
-				currentMenu = null;
-				progress = 0;
+				// 5. 상태 초기화
+				finishCooking();
 
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
@@ -58,6 +101,89 @@ public class ChefWorker implements Runnable {
 		}
 	}
 
+	/**
+	 * 이벤트 기반 엔진용: 일감을 인출하고 조리를 시작합니다.
+	 * 재료가 부족하면 인출한 일감을 쥔 채 -1을 반환하며, 다음 호출 때 재료 차감부터 다시 시도합니다.
+	 *
+	 * @return 조리 완료까지 남은 시간(ms), 일감이 없거나 재료를 기다리는 중이면 -1
+	 */
+	public long tryStartWork() {
+		if (currentOrder == null && findWork() == null) {
+			return -1;
+		}
+		if (!tryConsumeIngredients()) {
+			return -1;
+		}
+		return beginCooking();
+	}
+
+	/**
+	 * 이벤트 기반 엔진용: 조리 완료를 반영하고 필요 시 배달 큐로 넘깁니다.
+	 * 배달 큐가 가득 차 있으면 블로킹하지 않고 false를 반환하며, 이 경우 완료 카운트는
+	 * 이미 반영되었으므로 {@link #tryHandOff()}로 재시도해야 합니다.
+	 *
+	 * @return 후속 처리가 모두 끝났으면 true
+	 */
+	public boolean completeWork() {
+		if (markItemDone()) {
+			return tryHandOff();
+		}
+		finishCooking();
+		return true;
+	}
+
+	/**
+	 * 이벤트 기반 엔진용: 완성된 주문을 배달 큐에 non-blocking으로 넣어봅니다.
+	 */
+	public boolean tryHandOff() {
+		if (!queueManager.getDeliveryQueue().offer(currentOrder)) {
+			return false;
+		}
+		logReady();
+		finishCooking();
+		return true;
+	}
+
+	// 현재 메뉴의 조리 완료를 주문에 반영, 주문의 마지막 메뉴였으면 true
+	private boolean markItemDone() {
+		logger.debug("[요리사#{}] 주문#{} {} 조리 끝", id, currentOrder.getOrderId(), currentMenu.getName());
+		cookEvent.end();
+		if (cookEvent.shouldCommit()) {
+			cookEvent.chefId = id;
+			cookEvent.orderId = currentOrder.getOrderId();
+			cookEvent.menu = currentMenu.getName();
+			cookEvent.commit();
+		}
+		cookEvent = null;
+		stats.cookFinished(currentMenu, cookStartedAt, cookEndsAt);
+		if (eventBus != null) {
+			eventBus.itemCooked(currentOrder, currentMenu, id);
+		}
+
+		if (!currentOrder.addItemComplete(currentMenu)) {
+			return false;
+		}
+		handOffEvent = new DeliveryHandoffEvent();
+		handOffEvent.begin();
+		return true;
+	}
+
+	private void logReady() {
+		handOffEvent.end();
+		if (handOffEvent.shouldCommit()) {
+			handOffEvent.chefId = id;
+			handOffEvent.orderId = currentOrder.getOrderId();
+			handOffEvent.commit();
+		}
+		handOffEvent = null;
+		stats.orderReady(currentOrder);
+		if (eventBus != null) {
+			eventBus.ready(currentOrder, id);
+		}
+
+		logger.info("[요리사#" + id + "] 주문#" + currentOrder.getOrderId() + " 조리 완료 → 배달 큐");
+	}
+
 	/**
 	 * 메뉴 큐를 탐색하여 최적의 조리 작업을 결정하고 인출. 
 	 * * 우선순위 정책: 
@@ -71,30 +197,77 @@ public class ChefWorker implements Runnable {
 	 */
 	private Order findWork() {
 
-		// 1. 큐 포화도 기반 긴급 작업 탐색
-		Order urgentOrder = findUrgentOrder();
-		if (urgentOrder != null) {
-			return urgentOrder;
-		}
-		
-		// 2. 주문 번호 기반 일반 작업 탐색: peek and poll
+		WorkSelectionEvent selection = new WorkSelectionEvent();
+		selection.begin();
+
+		// 긴급 탐색도 같은 락 안에서 수행: 락 밖에서 poll하면 다른 요리사의 peek → poll 사이에 끼어들어
+		// 같은 메뉴를 두 번 조리하고 한 메뉴는 잃어버릴 수 있음
+		Order earliestOrder;
 		Map<MenuItem, OrderQueue> allMenuQueues = queueManager.getAllMenuQueues();
 		synchronized (allMenuQueues) {
-			return findEarliestOrder();
+			// 1. 큐 포화도 기반 긴급 작업 탐색
+			Order urgentOrder = findUrgentOrder();
+			if (urgentOrder != null) {
+				commitSelection(selection, "URGENT");
+				return urgentOrder;
+			}
+
+			// 2. 주문 번호 기반 일반 작업 탐색: peek and poll
+			//    (동시 조리 모드에서는 다른 요리사가 시작한 주문의 남은 메뉴를 먼저 탐색)
+			Order gangOrder = gang != null ? findGangOrder() : null;
+			if (gangOrder != null) {
+				commitSelection(selection, "GANG");
+				return gangOrder;
+			}
+			earliestOrder = findEarliestOrder();
+		}
+		if (earliestOrder != null) {
+			commitSelection(selection, "EARLIEST");
+		}
+		return earliestOrder;
+	}
+
+	private void commitSelection(WorkSelectionEvent selection, String policy) {
+		selection.end();
+		if (selection.shouldCommit()) {
+			selection.chefId = id;
+			selection.orderId = currentOrder.getOrderId();
+			selection.menu = currentMenu.getName();
+			selection.policy = policy;
+			selection.commit();
 		}
 	}
 
-	// 설정된 임계치(80% 이상)를 초과한 큐가 있는지 확인하고 가장 먼저 발견된 긴급 작업을 반환
+	// 설정된 임계치(기본 80% 이상)를 초과한 큐가 있는지 확인하고 가장 먼저 발견된 긴급 작업을 반환
 	private Order findUrgentOrder() {
+		int urgentPercent = config.getUrgentPercent();
 		for (MenuItem menu : MenuItem.values()) {
 			OrderQueue queue = queueManager.getMenuQueue(menu);
 
-			// 큐의 크기가 8개 이상인 경우 긴급 건으로 간주
-			if (queue.size() >= 8) {
+			// 큐가 용량의 임계치 이상 찬 경우 긴급 건으로 간주
+			if (queue.size() * 100 >= queue.getCapacity() * urgentPercent) {
 				Order order = queue.poll();
 				if (order != null) {
-					updateCurrentStatus(order, menu);
 					logger.warn("[긴급 조리] 큐 포화로 인한 우선 처리: {}", menu.getName());
+					updateCurrentStatus(order, menu);
+					return order;
+				}
+			}
+		}
+		return null;
+	}
+
+	// 게시판의 주문 중 아직 시작되지 않은 메뉴를 메뉴 큐 중간에서 꺼내 반환
+	private Order findGangOrder() {
+		for (Iterator<Order> it = gang.openOrders(); it.hasNext();) {
+			Order order = it.next();
+			if (!order.hasUnstartedItems()) {
+				it.remove();
+				continue;
+			}
+			for (MenuItem menu : order.getItems()) {
+				if (queueManager.getMenuQueue(menu).remove(order)) {
+					updateCurrentStatus(order, menu);
 					return order;
 				}
 			}
@@ -123,10 +296,13 @@ public class ChefWorker implements Runnable {
 		}
 
 		if (earliestQueue != null) {
-			earliestQueue.poll();
-			updateCurrentStatus(earliestOrder, earliestMenu);
-			logger.info("[요리사#{}] 주문#{} {} 조리 시작", id, earliestOrder.getOrderId(), earliestMenu.getName());
-			return earliestOrder;
+			// 실제로 꺼낸 주문을 사용 (다른 경로가 peek 이후 먼저 꺼냈더라도 조리 대상과 인출 대상이 어긋나지 않도록)
+			Order polled = earliestQueue.poll();
+			if (polled == null) {
+				return null;
+			}
+			updateCurrentStatus(polled, earliestMenu);
+			return polled;
 		}
 
 		return null;
@@ -136,26 +312,67 @@ public class ChefWorker implements Runnable {
 	private void updateCurrentStatus(Order order, MenuItem menu) {
 		this.currentOrder = order;
 		this.currentMenu = menu;
+
+		// 주문의 첫 메뉴를 집었으면 남은 메뉴를 다른 요리사들이 함께 조리하도록 게시
+		int unstarted = order.markItemStarted();
+		if (gang != null && unstarted > 0 && unstarted == order.getTotalItems() - 1) {
+			gang.publish(order);
+		}
 	}
 
-	private void cook() throws InterruptedException {
-		int cookTime = currentMenu.getCookTime();
-		int step = cookTime / 10;
+	// 현재 메뉴의 재료를 차감, 부족하면 처음 한 번만 경고를 남기고 false
+	private boolean tryConsumeIngredients() {
+		if (inventory == null || inventory.tryConsume(currentMenu)) {
+			waitingIngredients = false;
+			return true;
+		}
+		if (!waitingIngredients) {
+			waitingIngredients = true;
+			logger.warn("[요리사#{}] {} 재료 부족 → 입고 대기", id, currentMenu.getName());
+		}
+		return false;
+	}
 
-		for (int p = 0; p <= 100; p += 10) {
-			progress = p;
-			Thread.sleep(step);
+	// 조리 시작 시각을 기록하고 조리 시간(ms)을 반환 (재료 차감 이후 호출, 재료 대기 시간은 조리에 포함하지 않음)
+	private long beginCooking() {
+		long cookTime = config.getCookTime(currentMenu);
+		cookEvent = new CookEvent();
+		cookEvent.begin();
+		long now = System.currentTimeMillis();
+		cookEndsAt = now + cookTime;
+		cookStartedAt = now;
+		stats.cookStarted(currentOrder, currentMenu, now, now + cookTime);
+		logger.info("[요리사#{}] 주문#{} {} 조리 시작", id, currentOrder.getOrderId(), currentMenu.getName());
+		if (eventBus != null) {
+			eventBus.itemStarted(currentOrder, currentMenu, id);
 		}
+		return cookTime;
+	}
+
+	// 현재 요리사의 작업 상태 초기화
+	private void finishCooking() {
+		currentOrder = null;
+		currentMenu = null;
+		cookStartedAt = 0;
+		cookEndsAt = 0;
 	}
 
 	public void stop() {
 		running = false;
 	}
 
+	public boolean isRunning() {
+		return running;
+	}
+
 	public String getStatusString() {
-		if (isWorking()) {
-			return String.format("요리사#%d: 주문#%d %s 조리중 [%d%%]", id, currentOrder.getOrderId(), currentMenu.getName(),
-					progress);
+		Order order = currentOrder;
+		MenuItem menu = currentMenu;
+		if (order != null && menu != null && waitingIngredients) {
+			return String.format("요리사#%d: 주문#%d %s 재료 대기", id, order.getOrderId(), menu.getName());
+		} else if (order != null && menu != null) {
+			return String.format("요리사#%d: 주문#%d %s 조리중 [%d%%]", id, order.getOrderId(), menu.getName(),
+					getProgress());
 		} else {
 			return String.format("요리사#%d: 대기중", id);
 		}
@@ -174,8 +391,15 @@ public class ChefWorker implements Runnable {
 		return currentMenu;
 	}
 
+	// 조리 진행률(0~100%)을 조회 시점의 시각으로 계산
 	public int getProgress() {
-		return progress;
+		long start = cookStartedAt;
+		long end = cookEndsAt;
+		if (start == 0 || end <= start) {
+			return start == 0 ? 0 : 100;
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		return (int) Math.max(0, Math.min(100, elapsed * 100 / (end - start)));
 	}
 
 	public boolean isWorking() {
@@ -1,5 +1,12 @@
 package thread;
 
+import java.util.function.Consumer;
+
+import config.RestaurantConfig;
+import core.DeliveryStats;
+import event.OrderEventBus;
+import jfr.RiderTripEvent;
+import ledger.SalesLedger;
 import model.Order;
 import model.OrderQueue;
 
@@ -7,47 +14,54 @@ public class RiderWorker implements Runnable{
 
 	private final int riderId;
 	private final OrderQueue deliveryQueue;
+	private final RestaurantConfig config;
+	private final DeliveryStats stats;
+	private final SalesLedger ledger; // null이면 매출 기록 안 함
+	private final OrderEventBus eventBus; // null이면 주문 이벤트 발행 안 함
   
   private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(RiderWorker.class);
 
+	private volatile boolean running = true;
 	private volatile Order currentOrder;
 	private volatile boolean delivering;
 	private volatile int lastCompletedOrderId;
 	private volatile long completedAt;
+	private volatile Consumer<Order> deliveryListener;
+	private RiderTripEvent tripEvent;
+
+	public RiderWorker(int riderId, OrderQueue deliveryQueue, RestaurantConfig config, DeliveryStats stats) {
+		this(riderId, deliveryQueue, config, stats, null);
+	}
+
+	public RiderWorker(int riderId, OrderQueue deliveryQueue, RestaurantConfig config, DeliveryStats stats,
+			SalesLedger ledger) {
+		this(riderId, deliveryQueue, config, stats, ledger, null);
+	}
 
-	public RiderWorker(int riderId, OrderQueue deliveryQueue) {
+	public RiderWorker(int riderId, OrderQueue deliveryQueue, RestaurantConfig config, DeliveryStats stats,
+			SalesLedger ledger, OrderEventBus eventBus) {
 		this.riderId = riderId;
 		this.deliveryQueue = deliveryQueue;
+		this.config = config;
+		this.stats = stats;
+		this.ledger = ledger;
+		this.eventBus = eventBus;
 	}
 
 	@Override
 	public void run() {
 
-		while(true) {
+		while(running) {
 
 			try {
 				// 1. 배달 큐(deliveryQueue)에서 완성된 Order를 꺼냄 (pop)
 				Order order = deliveryQueue.pop();
-				currentOrder = order;
-				delivering = true;
-
-				// 2. 배달 시작 로그 기록
-				logger.info("#" + riderId + "번 배달 출발 (주소: " + order.getAddress() + ")");
 
-				// 3. 배달 시간 시뮬레이션: SLEEP(랜덤 10~15초)
-//				int deliveryTime = 10000 + (int)(Math.random() * 5000);
-				int deliveryTime = 20000 + (int)(Math.random() * 5000); 
-				Thread.sleep(deliveryTime);
+				// 2~3. 배달 시작 및 배달 시간 시뮬레이션
+				Thread.sleep(beginDelivery(order));
 
-				// 4. 배달 완료 로그 기록
-				logger.info("#" + riderId + "번 배달 완료!");
-
-				// 5. 완료 표시 후 잠시 대기
-				lastCompletedOrderId = order.getOrderId();
-				completedAt = System.currentTimeMillis();
-				delivering = false;
-				currentOrder = null;
-				Thread.sleep(1000);
+				// 4~5. 배달 완료 처리 후 잠시 대기
+				Thread.sleep(finishDelivery());
 
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
@@ -58,6 +72,93 @@ public class RiderWorker implements Runnable{
 
 	}
 
+	/**
+	 * 이벤트 기반 엔진용: 배달 큐에서 non-blocking으로 주문을 꺼내 배달을 시작합니다.
+	 *
+	 * @return 배달 완료까지 남은 시간(ms), 배달할 주문이 없으면 -1
+	 */
+	public long tryStartDelivery() {
+		Order order = deliveryQueue.poll();
+		if (order == null) {
+			return -1;
+		}
+		return beginDelivery(order);
+	}
+
+	/**
+	 * 배달 시작 상태를 기록하고 배달 시간(ms)을 반환합니다.
+	 */
+	private long beginDelivery(Order order) {
+		currentOrder = order;
+		delivering = true;
+		tripEvent = new RiderTripEvent();
+		tripEvent.begin();
+		stats.tripStarted();
+		if (eventBus != null) {
+			eventBus.pickedUp(order, riderId);
+		}
+
+		// 배달 시작 로그 기록
+		logger.info("#" + riderId + "번 배달 출발 주문#" + order.getOrderId() + " (주소: " + order.getAddress() + ")");
+
+		// 배달 시간: 설정값 기준 랜덤 (기본 20~25초)
+		int deliveryTime = config.getDeliveryMinMs() + (int)(Math.random() * config.getDeliveryJitterMs());
+		return deliveryTime;
+	}
+
+	/**
+	 * 배달 완료를 기록합니다.
+	 *
+	 * @return 다음 배달 전 휴식 시간(ms)
+	 */
+	public long finishDelivery() {
+		// 배달 완료 로그 기록
+		logger.info("#" + riderId + "번 배달 완료! 주문#" + currentOrder.getOrderId());
+
+		tripEvent.end();
+		if (tripEvent.shouldCommit()) {
+			tripEvent.riderId = riderId;
+			tripEvent.orderId = currentOrder.getOrderId();
+			tripEvent.address = currentOrder.getAddress();
+			tripEvent.commit();
+		}
+		tripEvent = null;
+		stats.tripFinished();
+		if (ledger != null) {
+			ledger.record(currentOrder);
+		}
+		if (eventBus != null) {
+			eventBus.delivered(currentOrder, riderId);
+		}
+
+		Consumer<Order> listener = deliveryListener;
+		if (listener != null) {
+			listener.accept(currentOrder);
+		}
+
+		// 완료 표시
+		lastCompletedOrderId = currentOrder.getOrderId();
+		completedAt = System.currentTimeMillis();
+		delivering = false;
+		currentOrder = null;
+		return config.getRiderCooldownMs();
+	}
+
+	/**
+	 * 배달 완료 시마다 호출될 리스너를 등록합니다. (배달원 스레드에서 호출되므로 빠르게 반환해야 함)
+	 */
+	public void setDeliveryListener(Consumer<Order> deliveryListener) {
+		this.deliveryListener = deliveryListener;
+	}
+
+	public void stop() {
+		running = false;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
 	public int getRiderId() {
 		return riderId;
 	}
@@ -6,9 +6,15 @@ import java.util.List;
 import java.util.Map;
 
 import core.DeliveryCenter;
+import core.DeliveryStats;
 import core.Kitchen;
-import core.OrderGenerator;
+import core.KitchenStats;
 import core.QueueManager;
+import event.OrderEventBus;
+import inventory.Ingredient;
+import inventory.Inventory;
+import ledger.MenuSales;
+import ledger.SalesLedger;
 import model.MenuItem;
 import model.Order;
 import thread.ChefWorker;
@@ -22,6 +28,13 @@ public class Dashboard implements Runnable {
 	private static final int CHEF_BAR_WIDTH = 8;
 	private static final int LEFT_COL = 55;
 
+	// 요약 화면
+	private static final int TOP_SLOW_ORDERS = 5;
+	private static final int CHEF_PAGE_ROWS = 4;    // 한 페이지에 표시할 요리사 줄 수 (줄당 메뉴 수만큼)
+	private static final int RIDER_PAGE_SIZE = 5;
+	private static final int FRAMES_PER_PAGE = 6;   // 페이지 자동 전환 주기 (3초)
+	private static final int RATE_WINDOW_FRAMES = 20; // 처리량 계산 구간 (10초)
+
 	// ANSI 색상
 	private static final String RESET   = "\033[0m";
 	private static final String BOLD    = "\033[1m";
@@ -35,14 +48,33 @@ public class Dashboard implements Runnable {
 	private final Kitchen kitchen;
 	private final DeliveryCenter deliveryCenter;
 	private final QueueManager queueManager;
-	private final OrderGenerator orderGenerator;
+	private final OrderEventBus eventBus;
+	private final RecentOrdersSubscriber recentOrders = new RecentOrdersSubscriber(5);
+	private final boolean summaryView;
 	private int lastLineCount = 0;
+	private long frame = 0;
+
+	// 메뉴별 처리량 계산용 (프레임별 누적 조리 수 링 버퍼)
+	private final long[][] cookedSamples = new long[RATE_WINDOW_FRAMES][MenuItem.values().length];
+	private final long[] sampleTimes = new long[RATE_WINDOW_FRAMES];
+
+	public Dashboard(Kitchen kitchen, DeliveryCenter deliveryCenter, QueueManager queueManager, OrderEventBus eventBus) {
+		this(kitchen, deliveryCenter, queueManager, eventBus, false);
+	}
 
-	public Dashboard(Kitchen kitchen, DeliveryCenter deliveryCenter, QueueManager queueManager, OrderGenerator orderGenerator) {
+	/**
+	 * @param summaryView true이면 요리사/배달원 수와 무관하게 일정한 비용으로 그리는 요약 화면
+	 *                    (메뉴별 집계, 지연 주문 Top N, 요리사·배달원 목록 페이지 전환)
+	 * @param eventBus    "주문 접수" 패널이 구독할 주문 이벤트 스트림
+	 */
+	public Dashboard(Kitchen kitchen, DeliveryCenter deliveryCenter, QueueManager queueManager, OrderEventBus eventBus,
+			boolean summaryView) {
 		this.kitchen = kitchen;
 		this.deliveryCenter = deliveryCenter;
 		this.queueManager = queueManager;
-		this.orderGenerator = orderGenerator;
+		this.eventBus = eventBus;
+		this.summaryView = summaryView;
+		eventBus.subscribe(recentOrders);
 	}
 
 	@Override
@@ -60,12 +92,55 @@ public class Dashboard implements Runnable {
 
 	private void render() {
 		try {
-			renderFrame();
+			if (summaryView) {
+				renderSummaryFrame();
+			} else {
+				renderFrame();
+			}
 		} catch (Exception e) {
 			// 멀티스레드 race condition 시 프레임 스킵
 		}
 	}
 
+	// 스케줄링 방식, 전체 처리량, 주문 완성 편차(첫 메뉴 완료 → 마지막 메뉴 완료)
+	private String throughputLine() {
+		KitchenStats stats = kitchen.getStats();
+		return String.format("║  ⏱ %s · 처리량 %.1f건/분 · 완성 편차 평균 %.1f초 / 최대 %.1f초",
+			kitchen.isGangScheduling() ? "동시 조리(gang)" : "선착순(fcfs)",
+			stats.getReadyPerMinute(System.currentTimeMillis()),
+			stats.getAverageSpreadMs() / 1000.0, stats.getMaxSpreadMs() / 1000.0);
+	}
+
+	// 재료별 재고와 재고 부족으로 거절된 주문 수 (재고 미사용 시 생략)
+	private void appendStockLine(StringBuilder sb) {
+		Inventory inventory = kitchen.getInventory();
+		if (inventory == null) {
+			return;
+		}
+		StringBuilder row = new StringBuilder("║  📦 재고:");
+		for (Ingredient ingredient : Ingredient.values()) {
+			long stock = inventory.getStock(ingredient);
+			row.append(' ').append(stock == 0 ? RED : "").append(ingredient.getName()).append(' ').append(stock)
+				.append(stock == 0 ? RESET : "");
+		}
+		row.append(" · 재료 부족 거절 ").append(inventory.getRejectedOrders()).append("건");
+		line(sb, row.toString());
+	}
+
+	// 최근 1분 / 1시간 매출과 최근 1시간 인기 메뉴 (매출 장부 미사용 시 생략)
+	private void appendRevenueLine(StringBuilder sb) {
+		SalesLedger ledger = deliveryCenter.getLedger();
+		if (ledger == null) {
+			return;
+		}
+		StringBuilder row = new StringBuilder(String.format("║  💰 매출: 최근 1분 %,d원 · 최근 1시간 %,d원 · 인기 메뉴:",
+			ledger.getRevenueLastMinutes(1), ledger.getRevenueLastMinutes(60)));
+		for (MenuSales sales : ledger.getTopSellersLastMinutes(60, 3)) {
+			row.append(' ').append(sales.getMenu().getName()).append(' ').append(sales.getQuantity());
+		}
+		line(sb, row.toString());
+	}
+
 	private void renderFrame() {
 		StringBuilder sb = new StringBuilder();
 		if (lastLineCount > 0) {
@@ -80,74 +155,21 @@ public class Dashboard implements Runnable {
 		// ── 타이틀 ──
 		line(sb, "╔" + sep);
 		line(sb, "║  🍳 " + BOLD + "Restaurant Tycoon" + RESET + " 🍳");
+		line(sb, throughputLine());
+		appendStockLine(sb);
+		appendRevenueLine(sb);
 		line(sb, "╠" + sep);
 
 		// ── 주문 접수 (왼쪽) + 조리중 (오른쪽) 2열 ──
-		List<String> recentLines = new ArrayList<>();
-		for (String order : orderGenerator.getRecentOrders()) {
-			recentLines.add("🔔 " + order);
-		}
-
-		List<String> cookingLines = buildCookingOrders();
-
-		line(sb, "║  📋 " + CYAN + "주문 접수" + RESET
-			+ padRight("", LEFT_COL - 15)
-			+ " ║  🔥 " + MAGENTA + "조리중" + RESET);
-
-		for (int i = 0; i < 5; i++) {
-			String left = i < recentLines.size() ? recentLines.get(i) : "";
-			String right = i < cookingLines.size() ? cookingLines.get(i) : "";
-			line(sb, "║    " + padRight(left, LEFT_COL - 4) + "║    " + right);
-		}
+		appendOrderPanels(sb, "🔥 " + MAGENTA + "조리중" + RESET, buildCookingOrders());
 
 		line(sb, "╠" + sep);
 		line(sb, "║  👨‍🍳 " + BOLD + "주방" + RESET);
 		line(sb, "║");
 
 		// ── 조리대 박스 ──
-
-		// 상단 테두리
-		StringBuilder row = new StringBuilder("║  ");
-		for (int i = 0; i < cols; i++) {
-			if (i > 0) row.append(" ");
-			row.append("┌").append("─".repeat(COL_INNER)).append("┐");
-		}
-		line(sb, row.toString());
-
-		// 메뉴 이름 (이모지 포함)
-		row = new StringBuilder("║  ");
-		for (int i = 0; i < cols; i++) {
-			if (i > 0) row.append(" ");
-			row.append("│").append(centerPad(BOLD + menuLabel(menus[i]) + RESET, COL_INNER)).append("│");
-		}
-		line(sb, row.toString());
-
-		// 큐 게이지바
-		row = new StringBuilder("║  ");
-		for (int i = 0; i < cols; i++) {
-			if (i > 0) row.append(" ");
-			int size = queueManager.getQueueSize(menus[i]);
-			String bar = coloredQueueBar(size, 10);
-			row.append("│").append(centerPad(bar, COL_INNER)).append("│");
-		}
-		line(sb, row.toString());
-
-		// 큐 수량
-		row = new StringBuilder("║  ");
-		for (int i = 0; i < cols; i++) {
-			if (i > 0) row.append(" ");
-			int size = queueManager.getQueueSize(menus[i]);
-			row.append("│").append(centerPad(size + "/10", COL_INNER)).append("│");
-		}
-		line(sb, row.toString());
-
-		// 하단 테두리
-		row = new StringBuilder("║  ");
-		for (int i = 0; i < cols; i++) {
-			if (i > 0) row.append(" ");
-			row.append("└").append("─".repeat(COL_INNER)).append("┘");
-		}
-		line(sb, row.toString());
+		appendQueueBoxes(sb, menus);
+		appendBoxBottom(sb, cols);
 
 		// ── 조리대 아래: 요리사 정보 ──
 		List<ChefWorker> allChefs = kitchen.getChiefs();
@@ -160,7 +182,7 @@ public class Dashboard implements Runnable {
 		}
 
 		for (int r = 0; r < maxChefRows; r++) {
-			row = new StringBuilder("║  ");
+			StringBuilder row = new StringBuilder("║  ");
 			for (int i = 0; i < cols; i++) {
 				if (i > 0) row.append(" ");
 				if (r < chefsPerMenu[i].size()) {
@@ -184,24 +206,234 @@ public class Dashboard implements Runnable {
 
 		// ── 배달 ──
 		int dqSize = queueManager.getDeliveryQueue().size();
-		line(sb, "║  🛵 " + BOLD + "배달" + RESET + "  📦 완성 대기: " + dqSize + "/5");
+		int dqCapacity = queueManager.getDeliveryQueue().getCapacity();
+		line(sb, "║  🛵 " + BOLD + "배달" + RESET + "  📦 완성 대기: " + dqSize + "/" + dqCapacity);
 		for (RiderWorker rider : deliveryCenter.getRiderStatus()) {
-			if (rider.isDelivering()) {
-				line(sb, "║    🟢 " + GREEN + rider.getStatusString() + RESET);
-			} else if (rider.isJustCompleted()) {
-				line(sb, "║    ✅ " + CYAN + rider.getStatusString() + RESET);
-			} else {
-				line(sb, "║    💤 " + GRAY + rider.getStatusString() + RESET);
+			line(sb, riderLine(rider));
+		}
+
+		line(sb, "╚" + sep);
+		flush(sb);
+	}
+
+	/**
+	 * 요약 화면: 요리사/배달원을 전수 순회하지 않고 증분 집계와 현재 페이지만 그립니다.
+	 * 프레임 비용은 O(메뉴 수 + Top N + 페이지 크기)로 인원 수와 무관합니다.
+	 */
+	private void renderSummaryFrame() {
+		StringBuilder sb = new StringBuilder();
+		if (lastLineCount > 0) {
+			sb.append(String.format("\033[%dA", lastLineCount));
+		}
+
+		long now = System.currentTimeMillis();
+		KitchenStats stats = kitchen.getStats();
+		MenuItem[] menus = MenuItem.values();
+		int cols = menus.length;
+		int colTotal = COL_INNER + 2;
+		String sep = "═".repeat(cols * colTotal + (cols - 1) + 2);
+		long[] rates = sampleCookRates(stats, menus, now);
+
+		// ── 타이틀 ──
+		line(sb, "╔" + sep);
+		line(sb, "║  🍳 " + BOLD + "Restaurant Tycoon" + RESET + " 🍳");
+		line(sb, throughputLine());
+		appendStockLine(sb);
+		appendRevenueLine(sb);
+		line(sb, "╠" + sep);
+
+		// ── 주문 접수 (왼쪽) + 지연 주문 Top N (오른쪽) ──
+		List<String> slowLines = new ArrayList<>();
+		for (Order order : stats.getSlowestOrders(TOP_SLOW_ORDERS)) {
+			slowLines.add(String.format("⏳ #%d %.1f초 (%d/%d)", order.getOrderId(),
+				(now - order.getTimestamp()) / 1000.0, order.getCompletedCount(), order.getTotalItems()));
+		}
+		appendOrderPanels(sb, "⏳ " + MAGENTA + "지연 주문 Top " + TOP_SLOW_ORDERS + RESET, slowLines);
+
+		line(sb, "╠" + sep);
+		List<ChefWorker> chefs = kitchen.getChiefs();
+		int active = 0;
+		for (MenuItem menu : menus) {
+			active += stats.getActiveChefs(menu);
+		}
+		line(sb, "║  👨‍🍳 " + BOLD + "주방" + RESET + "  요리사 " + chefs.size() + "명 (조리중 " + active + ")"
+			+ " · 주방 내 주문 " + stats.getOrdersInKitchen() + "건 · 완성 " + stats.getReadyOrders() + "건");
+		line(sb, "║");
+
+		// ── 조리대 박스 + 메뉴별 집계 ──
+		appendQueueBoxes(sb, menus);
+		StringBuilder row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			row.append("│").append(centerPad("👨‍🍳 " + stats.getActiveChefs(menus[i]) + "명 조리중", COL_INNER)).append("│");
+		}
+		line(sb, row.toString());
+		row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			row.append("│").append(centerPad(chefProgressBar(stats.getAverageProgress(menus[i], now)), COL_INNER)).append("│");
+		}
+		line(sb, row.toString());
+		row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			row.append("│").append(centerPad(rates[i] + "개/분", COL_INNER)).append("│");
+		}
+		line(sb, row.toString());
+		appendBoxBottom(sb, cols);
+
+		// ── 요리사 목록 (페이지 전환) ──
+		int chefPageSize = CHEF_PAGE_ROWS * cols;
+		int chefCount = chefs.size();
+		int chefPages = Math.max(1, (chefCount + chefPageSize - 1) / chefPageSize);
+		int chefPage = (int) ((frame / FRAMES_PER_PAGE) % chefPages);
+		line(sb, "║  " + GRAY + "요리사 목록 " + (chefPage + 1) + "/" + chefPages + " 페이지" + RESET);
+		for (int r = 0; r < CHEF_PAGE_ROWS; r++) {
+			row = new StringBuilder("║  ");
+			for (int i = 0; i < cols; i++) {
+				if (i > 0) row.append(" ");
+				int idx = chefPage * chefPageSize + r * cols + i;
+				row.append(padRight(idx < chefCount ? chefCell(chefs.get(idx)) : "", colTotal));
 			}
+			line(sb, row.toString());
+		}
+
+		line(sb, "║");
+		line(sb, "╠" + sep);
+
+		// ── 배달 (집계 + 페이지 전환) ──
+		DeliveryStats deliveryStats = deliveryCenter.getStats();
+		List<RiderWorker> riders = deliveryCenter.getRiderStatus();
+		int riderCount = riders.size();
+		int delivering = deliveryStats.getDelivering();
+		line(sb, "║  🛵 " + BOLD + "배달" + RESET + "  📦 완성 대기: " + queueManager.getDeliveryQueue().size()
+			+ "/" + queueManager.getDeliveryQueue().getCapacity()
+			+ " · 배달중 " + delivering + "명 · 대기 " + Math.max(0, riderCount - delivering) + "명"
+			+ " · 누적 완료 " + deliveryStats.getDelivered() + "건");
+		int riderPages = Math.max(1, (riderCount + RIDER_PAGE_SIZE - 1) / RIDER_PAGE_SIZE);
+		int riderPage = (int) ((frame / FRAMES_PER_PAGE) % riderPages);
+		line(sb, "║    " + GRAY + "배달원 목록 " + (riderPage + 1) + "/" + riderPages + " 페이지" + RESET);
+		for (int r = 0; r < RIDER_PAGE_SIZE; r++) {
+			int idx = riderPage * RIDER_PAGE_SIZE + r;
+			line(sb, idx < riderCount ? riderLine(riders.get(idx)) : "║");
 		}
 
 		line(sb, "╚" + sep);
+		frame++;
+		flush(sb);
+	}
+
+	// 누적 조리 수를 링 버퍼에 기록하고, 창(window) 구간의 메뉴별 분당 처리량을 계산
+	private long[] sampleCookRates(KitchenStats stats, MenuItem[] menus, long now) {
+		int slot = (int) (frame % RATE_WINDOW_FRAMES);
+		int oldest = (int) ((frame + 1) % RATE_WINDOW_FRAMES);
+		for (MenuItem menu : menus) {
+			cookedSamples[slot][menu.ordinal()] = stats.getCookedItems(menu);
+		}
+		sampleTimes[slot] = now;
+
+		long[] rates = new long[menus.length];
+		int from = frame + 1 >= RATE_WINDOW_FRAMES ? oldest : 0;
+		long elapsed = now - sampleTimes[from];
+		if (elapsed > 0) {
+			for (MenuItem menu : menus) {
+				long cooked = cookedSamples[slot][menu.ordinal()] - cookedSamples[from][menu.ordinal()];
+				rates[menu.ordinal()] = cooked * 60000 / elapsed;
+			}
+		}
+		return rates;
+	}
+
+	private String chefCell(ChefWorker chef) {
+		Order order = chef.getCurrentOrder();
+		MenuItem menu = chef.getCurrentMenu();
+		if (order == null || menu == null) {
+			return GRAY + "💤#" + chef.getId() + RESET;
+		}
+		return YELLOW + "👨‍🍳#" + chef.getId() + RESET + " " + menu.getName() + " " + chef.getProgress() + "%";
+	}
+
+	private String riderLine(RiderWorker rider) {
+		if (rider.isDelivering()) {
+			return "║    🟢 " + GREEN + rider.getStatusString() + RESET;
+		} else if (rider.isJustCompleted()) {
+			return "║    ✅ " + CYAN + rider.getStatusString() + RESET;
+		}
+		return "║    💤 " + GRAY + rider.getStatusString() + RESET;
+	}
+
+	// ── 주문 접수 (왼쪽) + 오른쪽 패널 2열 ──
+	private void appendOrderPanels(StringBuilder sb, String rightTitle, List<String> rightLines) {
+		List<String> recentLines = recentOrders.getLines();
+		long dropped = eventBus.getDroppedCount(recentOrders);
+		String leftTitle = "📋 " + CYAN + "주문 접수" + RESET + (dropped > 0 ? GRAY + " (이벤트 유실 " + dropped + ")" + RESET : "");
+
+		line(sb, "║  " + padRight(leftTitle, LEFT_COL - 3)
+			+ " ║  " + rightTitle);
+
+		for (int i = 0; i < 5; i++) {
+			String left = i < recentLines.size() ? recentLines.get(i) : "";
+			String right = i < rightLines.size() ? rightLines.get(i) : "";
+			line(sb, "║    " + padRight(left, LEFT_COL - 4) + "║    " + right);
+		}
+	}
 
+	private void flush(StringBuilder sb) {
 		lastLineCount = sb.toString().split("\n", -1).length - 1;
 		System.out.print(sb);
 		System.out.flush();
 	}
 
+	// 조리대 박스: 상단 테두리, 메뉴 이름, 큐 게이지바, 큐 수량
+	private void appendQueueBoxes(StringBuilder sb, MenuItem[] menus) {
+		int cols = menus.length;
+		// 상단 테두리
+		StringBuilder row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			row.append("┌").append("─".repeat(COL_INNER)).append("┐");
+		}
+		line(sb, row.toString());
+
+		// 메뉴 이름 (이모지 포함)
+		row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			row.append("│").append(centerPad(BOLD + menuLabel(menus[i]) + RESET, COL_INNER)).append("│");
+		}
+		line(sb, row.toString());
+
+		// 큐 게이지바
+		row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			int size = queueManager.getQueueSize(menus[i]);
+			String bar = coloredQueueBar(size, queueManager.getQueueCapacity(menus[i]));
+			row.append("│").append(centerPad(bar, COL_INNER)).append("│");
+		}
+		line(sb, row.toString());
+
+		// 큐 수량
+		row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			int size = queueManager.getQueueSize(menus[i]);
+			row.append("│").append(centerPad(size + "/" + queueManager.getQueueCapacity(menus[i]), COL_INNER)).append("│");
+		}
+		line(sb, row.toString());
+
+	}
+
+	private void appendBoxBottom(StringBuilder sb, int cols) {
+		// 하단 테두리
+		StringBuilder row = new StringBuilder("║  ");
+		for (int i = 0; i < cols; i++) {
+			if (i > 0) row.append(" ");
+			row.append("└").append("─".repeat(COL_INNER)).append("┘");
+		}
+		line(sb, row.toString());
+	}
+
 	// ── 조리중 주문 목록 생성 ──
 	private List<String> buildCookingOrders() {
 		List<String> result = new ArrayList<>();
@@ -0,0 +1,100 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import event.OrderEvent;
+import event.OrderEventType;
+import model.MenuItem;
+import model.Order;
+
+/**
+ * 대시보드 "주문 접수" 패널용 구독자
+ *
+ * 접수 이벤트로 최근 주문 N건을 기억하고, 이후 이벤트로 각 주문의 진행 단계만 갱신합니다.
+ * 목록 밖의 주문 이벤트는 바로 버리므로 처리 비용은 이벤트당 N칸 탐색이 전부입니다.
+ * 단계는 앞으로만 진행하므로 서로 다른 스레드의 이벤트가 늦게 도착해도 되돌아가지 않습니다.
+ */
+class RecentOrdersSubscriber implements Flow.Subscriber<OrderEvent> {
+
+	private final int capacity;
+	// 최신 주문이 앞 (orders[0])
+	private final Order[] orders;
+	private final OrderEventType[] stages;
+	private int size;
+
+	RecentOrdersSubscriber(int capacity) {
+		this.capacity = capacity;
+		this.orders = new Order[capacity];
+		this.stages = new OrderEventType[capacity];
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		// 처리 비용이 작으므로 전부 요청 (밀리면 버스의 구독자 버퍼에서 버려짐)
+		subscription.request(Long.MAX_VALUE);
+	}
+
+	@Override
+	public synchronized void onNext(OrderEvent event) {
+		if (event.getType() == OrderEventType.CREATED) {
+			int last = Math.min(size, capacity - 1);
+			System.arraycopy(orders, 0, orders, 1, last);
+			System.arraycopy(stages, 0, stages, 1, last);
+			orders[0] = event.getOrder();
+			stages[0] = OrderEventType.CREATED;
+			size = last + 1;
+			return;
+		}
+		for (int i = 0; i < size; i++) {
+			if (orders[i].getOrderId() == event.getOrderId()) {
+				if (event.getType().compareTo(stages[i]) > 0) {
+					stages[i] = event.getType();
+				}
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		// 표시 전용 구독자이므로 마지막 상태를 유지
+	}
+
+	@Override
+	public void onComplete() {
+		// 영업 종료: 마지막 상태를 유지
+	}
+
+	/**
+	 * 최근 주문 목록 (최신순, "아이콘 #번호 [메뉴] → 주소")
+	 */
+	synchronized List<String> getLines() {
+		List<String> lines = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			lines.add(icon(stages[i]) + " " + format(orders[i]));
+		}
+		return lines;
+	}
+
+	private static String icon(OrderEventType stage) {
+		switch (stage) {
+			case ITEM_STARTED:
+			case ITEM_COOKED: return "🍳";
+			case READY:       return "✅";
+			case PICKED_UP:   return "🛵";
+			case DELIVERED:   return "🏁";
+			default:          return "🔔";
+		}
+	}
+
+	private static String format(Order order) {
+		StringBuilder items = new StringBuilder();
+		for (MenuItem item : order.getItems()) {
+			if (items.length() > 0) items.append(", ");
+			items.append(item.getName());
+		}
+		return String.format("#%d [%s] → %s", order.getOrderId(), items, order.getAddress());
+	}
+}